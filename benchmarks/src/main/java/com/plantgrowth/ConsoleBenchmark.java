@@ -0,0 +1,38 @@
+package com.plantgrowth;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The console rendering helpers, called for every stage in turn.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ConsoleBenchmark {
+    @Benchmark
+    public void getProgressBar(Blackhole blackhole) {
+        for (int stage = 0; stage < PlantRules.TOTAL_STAGE_COUNT; stage++) {
+            blackhole.consume(ConsolePlantSimulator.getProgressBar(stage, PlantRules.TOTAL_STAGE_COUNT - 1));
+        }
+    }
+
+    @Benchmark
+    public void getPlantArt(Blackhole blackhole) {
+        for (int stage = 0; stage < PlantRules.TOTAL_STAGE_COUNT; stage++) {
+            blackhole.consume(ConsolePlantSimulator.getPlantArt(stage));
+        }
+    }
+}
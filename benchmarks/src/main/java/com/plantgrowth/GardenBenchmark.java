@@ -0,0 +1,76 @@
+package com.plantgrowth;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bulk stepping of a population of 2^20 plants. Every invocation starts from
+ * seeds, so each measures the same amount of work. The vector sweeps run in
+ * forks with the incubating Vector API module, where {@link Garden} uses the
+ * vector kernel on CPUs with 256-bit vectors or wider.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class GardenBenchmark {
+    private static final int GARDEN_SIZE = 1 << 20;
+
+    private Garden garden;
+    private WateringSchedule schedule;
+
+    @Setup
+    public void setUp() {
+        garden = new Garden(PlantRules.GUI, GARDEN_SIZE);
+        schedule = WateringSchedule.random(7L, 2);
+    }
+
+    @Benchmark
+    public int waterSweep() {
+        garden.reset(0, garden.size());
+        garden.water(0, garden.size(), 5);
+        return garden.getState(garden.size() - 1);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public int vectorWaterSweep() {
+        return waterSweep();
+    }
+
+    @Benchmark
+    public int singleSweep() {
+        garden.reset(0, garden.size());
+        garden.water(0, garden.size());
+        return garden.getState(garden.size() - 1);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public int vectorSingleSweep() {
+        return singleSweep();
+    }
+
+    @Benchmark
+    public BatchResult batchSequential() {
+        garden.reset(0, garden.size());
+        return BatchSimulator.runSequential(garden, schedule, 4);
+    }
+
+    @Benchmark
+    public BatchResult batchParallel() {
+        garden.reset(0, garden.size());
+        return BatchSimulator.runParallel(garden, schedule, 4);
+    }
+}
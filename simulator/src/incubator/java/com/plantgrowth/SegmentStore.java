@@ -0,0 +1,98 @@
+package com.plantgrowth;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import jdk.incubator.foreign.MemoryAccess;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+
+/**
+ * Off-heap plant states in one memory segment of the Foreign Memory API,
+ * indexed by long with no per-buffer size limit. The segment has a shared
+ * scope, so the parallel sweeps of {@link OffHeapGarden} may use it from any
+ * thread, and {@link #release()} frees the native memory or unmaps the file
+ * at once rather than leaving it to the garbage collector.
+ *
+ * Compiled with {@code --add-modules jdk.incubator.foreign}; only reached
+ * through {@link OffHeapStore}.
+ */
+final class SegmentStore extends OffHeapStore {
+    private final ResourceScope scope;
+    private final MemorySegment plants;
+    private final boolean mapped;
+
+    private SegmentStore(ResourceScope scope, MemorySegment plants, boolean mapped) {
+        this.scope = scope;
+        this.plants = plants;
+        this.mapped = mapped;
+    }
+
+    static OffHeapStore allocate(long plants) {
+        ResourceScope scope = ResourceScope.newSharedScope();
+        // Native segments are zeroed, so every plant starts as a seed; they cannot be empty
+        MemorySegment segment = MemorySegment.allocateNative(Math.max(1, plants), scope).asSlice(0, plants);
+        return new SegmentStore(scope, segment, false);
+    }
+
+    static OffHeapStore map(Path path, long offset, long plants) throws IOException {
+        ResourceScope scope = ResourceScope.newSharedScope();
+        try {
+            return new SegmentStore(scope, MemorySegment.mapFile(path, offset, plants,
+                    FileChannel.MapMode.READ_WRITE, scope), true);
+        } catch (IOException | RuntimeException e) {
+            scope.close();
+            throw e;
+        }
+    }
+
+    @Override
+    byte get(long index) {
+        return MemoryAccess.getByteAtOffset(plants, index);
+    }
+
+    @Override
+    void set(long index, byte state) {
+        MemoryAccess.setByteAtOffset(plants, index, state);
+    }
+
+    @Override
+    void water(long from, long to, byte[] table) {
+        // Int-indexed loops over slices, which the JIT compiles better than long-indexed ones
+        for (long start = from; start < to; start += CHUNK_PLANTS) {
+            MemorySegment chunk = plants.asSlice(start, Math.min(CHUNK_PLANTS, to - start));
+            int size = (int) chunk.byteSize();
+            for (int i = 0; i < size; i++) {
+                MemoryAccess.setByteAtOffset(chunk, i, table[MemoryAccess.getByteAtOffset(chunk, i)]);
+            }
+        }
+    }
+
+    @Override
+    void reset(long from, long to) {
+        plants.asSlice(from, to - from).fill((byte) 0);
+    }
+
+    @Override
+    void addStateCounts(long from, long to, long[] perState) {
+        for (long start = from; start < to; start += CHUNK_PLANTS) {
+            MemorySegment chunk = plants.asSlice(start, Math.min(CHUNK_PLANTS, to - start));
+            int size = (int) chunk.byteSize();
+            for (int i = 0; i < size; i++) {
+                perState[MemoryAccess.getByteAtOffset(chunk, i)]++;
+            }
+        }
+    }
+
+    @Override
+    void force() {
+        if (mapped) {
+            plants.force();
+        }
+    }
+
+    @Override
+    void release() {
+        scope.close();
+    }
+}
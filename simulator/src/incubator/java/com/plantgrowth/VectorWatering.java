@@ -0,0 +1,125 @@
+package com.plantgrowth;
+
+import java.util.Arrays;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Table lookup for a whole vector of plants at a time with the Vector API.
+ * The table's {@link PlantRules#STATE_COUNT} entries are split into
+ * vector-sized pieces: two of 64 lanes on 512-bit hardware, four of 32 on
+ * 256-bit. The low bits of each plant's state index every piece, and the
+ * high bits select which piece's result the plant takes. Each piece is
+ * rearranged on its own rather than through the two-input rearrange, whose
+ * fallback in JDK 17 rejects the out-of-range indexes it is meant to accept.
+ * A partial vector at the end is looked up one plant at a time.
+ *
+ * Compiled with {@code --add-modules jdk.incubator.vector}; only reached
+ * through {@link WateringKernel}.
+ */
+final class VectorWatering extends WateringKernel {
+    /** Narrowest vectors worth using; with fewer lanes the pieces outnumber the plants they serve. */
+    private static final int MIN_BITS = 256;
+
+    private final VectorSpecies<Byte> species;
+    private final byte[] table;
+    private final ByteVector[] pieces;
+
+    private VectorWatering(VectorSpecies<Byte> species, byte[] table) {
+        this.species = species;
+        this.table = table;
+        int lanes = species.length();
+        byte[] padded = Arrays.copyOf(table, (table.length + lanes - 1) / lanes * lanes);
+        pieces = new ByteVector[padded.length / lanes];
+        for (int i = 0; i < pieces.length; i++) {
+            pieces[i] = ByteVector.fromArray(species, padded, i * lanes);
+        }
+    }
+
+    /**
+     * @return bit size of the vectors the kernel uses on this CPU, or 0 if
+     *         they are too narrow to beat the table lookup
+     */
+    static int preferredBits() {
+        int bits = ByteVector.SPECIES_PREFERRED.vectorBitSize();
+        return bits >= MIN_BITS ? bits : 0;
+    }
+
+    /**
+     * @param bits vector size to use; any size the Vector API defines works,
+     *             sizes the CPU lacks run in the API's portable fallback
+     */
+    static WateringKernel create(byte[] table, int bits) {
+        if (table.length > PlantRules.STATE_COUNT) {
+            throw new IllegalArgumentException("Table of " + table.length + " states is larger than "
+                    + PlantRules.STATE_COUNT);
+        }
+        return new VectorWatering(VectorSpecies.of(byte.class, VectorShape.forBitSize(bits)), table);
+    }
+
+    @Override
+    void water(byte[] states, int from, int to) {
+        int end = from + species.loopBound(to - from);
+        // The common widths get loops with the pieces in locals, which the JIT keeps in registers
+        switch (pieces.length) {
+            case 2 -> waterTwoPieces(states, from, end);
+            case 4 -> waterFourPieces(states, from, end);
+            default -> waterPieces(states, from, end);
+        }
+        byte[] table = this.table;
+        for (int i = end; i < to; i++) {
+            states[i] = table[states[i]];
+        }
+    }
+
+    private void waterTwoPieces(byte[] states, int from, int to) {
+        VectorSpecies<Byte> species = this.species;
+        int lanes = species.length();
+        ByteVector p0 = pieces[0];
+        ByteVector p1 = pieces[1];
+        for (int i = from; i < to; i += lanes) {
+            ByteVector plants = ByteVector.fromArray(species, states, i);
+            VectorShuffle<Byte> lookup = plants.and((byte) (lanes - 1)).toShuffle();
+            p0.rearrange(lookup)
+                    .blend(p1.rearrange(lookup), plants.compare(VectorOperators.GE, (byte) lanes))
+                    .intoArray(states, i);
+        }
+    }
+
+    private void waterFourPieces(byte[] states, int from, int to) {
+        VectorSpecies<Byte> species = this.species;
+        int lanes = species.length();
+        ByteVector p0 = pieces[0];
+        ByteVector p1 = pieces[1];
+        ByteVector p2 = pieces[2];
+        ByteVector p3 = pieces[3];
+        for (int i = from; i < to; i += lanes) {
+            ByteVector plants = ByteVector.fromArray(species, states, i);
+            VectorShuffle<Byte> lookup = plants.and((byte) (lanes - 1)).toShuffle();
+            p0.rearrange(lookup)
+                    .blend(p1.rearrange(lookup), plants.compare(VectorOperators.GE, (byte) lanes))
+                    .blend(p2.rearrange(lookup), plants.compare(VectorOperators.GE, (byte) (2 * lanes)))
+                    .blend(p3.rearrange(lookup), plants.compare(VectorOperators.GE, (byte) (3 * lanes)))
+                    .intoArray(states, i);
+        }
+    }
+
+    private void waterPieces(byte[] states, int from, int to) {
+        VectorSpecies<Byte> species = this.species;
+        ByteVector[] pieces = this.pieces;
+        int lanes = species.length();
+        for (int i = from; i < to; i += lanes) {
+            ByteVector plants = ByteVector.fromArray(species, states, i);
+            VectorShuffle<Byte> lookup = plants.and((byte) (lanes - 1)).toShuffle();
+            ByteVector watered = pieces[0].rearrange(lookup);
+            for (int piece = 1; piece < pieces.length; piece++) {
+                watered = watered.blend(pieces[piece].rearrange(lookup),
+                        plants.compare(VectorOperators.GE, (byte) (piece * lanes)));
+            }
+            watered.intoArray(states, i);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.plantgrowth;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.Timer;
+
+/**
+ * One Swing timer driving every running animation in the application, so a
+ * window with hundreds of animated panels has one timer and one tick event
+ * per frame instead of one each. All animations advance in the same event,
+ * and the repaints they request are merged by the repaint manager into a
+ * single paint pass. The timer runs only while some animation is active.
+ * The frame rate is capped by {@link #setMaxFrameRate}, or at start-up by
+ * {@code -Dplantgrowth.fps=<frames per second>}. Use only on the event
+ * dispatch thread.
+ */
+final class AnimationClock {
+    static final int DEFAULT_FRAME_RATE = 25;
+    static final AnimationClock SHARED = new AnimationClock(Integer.getInteger("plantgrowth.fps", DEFAULT_FRAME_RATE));
+
+    /**
+     * Something that changes over time, such as a panel's pulse.
+     */
+    interface Animation {
+        /**
+         * Advance to the given time and request any repaint it needs.
+         * @return false once finished, which unsubscribes it
+         */
+        boolean tick(long nowNanos);
+    }
+
+    private final List<Animation> active = new ArrayList<>();
+    private final Timer timer;
+    private long frames;
+
+    AnimationClock(int maxFrameRate) {
+        timer = new Timer(delayFor(maxFrameRate), e -> tick());
+        timer.setCoalesce(true);
+    }
+
+    /**
+     * Subscribe an animation until its {@link Animation#tick} returns false.
+     * Its first tick comes with the next frame. Starting an animation that is
+     * already running would tick it twice per frame.
+     */
+    void start(Animation animation) {
+        active.add(animation);
+        if (!timer.isRunning()) {
+            timer.start();
+        }
+    }
+
+    void setMaxFrameRate(int framesPerSecond) {
+        int delay = delayFor(framesPerSecond);
+        timer.setDelay(delay);
+        timer.setInitialDelay(delay);
+    }
+
+    int getMaxFrameRate() {
+        return 1000 / timer.getDelay();
+    }
+
+    int getActiveCount() {
+        return active.size();
+    }
+
+    boolean isRunning() {
+        return timer.isRunning();
+    }
+
+    /**
+     * @return number of frames ticked since the clock was created
+     */
+    long getFrameCount() {
+        return frames;
+    }
+
+    private void tick() {
+        frames++;
+        long now = System.nanoTime();
+        int count = active.size();
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            Animation animation = active.get(i);
+            if (animation.tick(now)) {
+                active.set(kept++, animation);
+            }
+        }
+        // Animations started during this pass tick from the next frame
+        for (int i = count; i < active.size(); i++) {
+            active.set(kept++, active.get(i));
+        }
+        active.subList(kept, active.size()).clear();
+        if (active.isEmpty()) {
+            timer.stop();
+        }
+    }
+
+    private static int delayFor(int framesPerSecond) {
+        if (framesPerSecond <= 0) {
+            throw new IllegalArgumentException("Frame rate must be positive but was " + framesPerSecond);
+        }
+        return Math.max(1, 1000 / framesPerSecond);
+    }
+}
@@ -0,0 +1,101 @@
+package com.plantgrowth;
+
+import java.io.PrintWriter;
+
+/**
+ * Full-screen terminal output that redraws only what changed. Each frame is
+ * a list of lines; lines equal to the previous frame's are skipped, and a
+ * changed line is rewritten from its first differing column, so a mostly
+ * static screen costs a few cursor moves and digits per frame. The whole
+ * frame goes out in one write. Lines must fit the terminal width and use
+ * single-width characters, or the cursor positions drift.
+ */
+final class AnsiScreen implements AutoCloseable {
+    private static final String CSI = "\u001b[";
+
+    private final PrintWriter out;
+    private final StringBuilder frame = new StringBuilder(4096);
+    private String[] shown = new String[0];
+    private boolean started;
+    private long charsWritten;
+    private long fullRedrawChars;
+
+    AnsiScreen(PrintWriter out) {
+        this.out = out;
+    }
+
+    void render(String[] lines) {
+        frame.setLength(0);
+        if (!started) {
+            // Hide the cursor and start from a blank screen
+            frame.append(CSI).append("?25l").append(CSI).append("2J");
+            started = true;
+        }
+        for (int row = 0; row < lines.length; row++) {
+            String line = lines[row];
+            String old = row < shown.length ? shown[row] : "";
+            fullRedrawChars += line.length() + 1;
+            if (line.equals(old)) {
+                continue;
+            }
+            int column = firstDifference(old, line);
+            moveTo(row, column);
+            frame.append(line, column, line.length());
+            if (old.length() > line.length()) {
+                frame.append(CSI).append('K');
+            }
+        }
+        if (lines.length < shown.length) {
+            moveTo(lines.length, 0);
+            frame.append(CSI).append('J');
+        }
+        shown = lines.clone();
+
+        if (frame.length() > 0) {
+            charsWritten += frame.length();
+            out.append(frame);
+            out.flush();
+        }
+    }
+
+    /**
+     * @return characters sent so far, escape sequences included
+     */
+    long getCharsWritten() {
+        return charsWritten;
+    }
+
+    /**
+     * @return characters the same frames would have cost if every line were reprinted
+     */
+    long getFullRedrawChars() {
+        return fullRedrawChars;
+    }
+
+    /**
+     * Leave the cursor below the last frame and show it again.
+     */
+    @Override
+    public void close() {
+        if (started) {
+            frame.setLength(0);
+            moveTo(shown.length, 0);
+            frame.append(CSI).append("?25h");
+            out.append(frame);
+            out.flush();
+        }
+    }
+
+    private void moveTo(int row, int column) {
+        frame.append(CSI).append(row + 1).append(';').append(column + 1).append('H');
+    }
+
+    private static int firstDifference(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
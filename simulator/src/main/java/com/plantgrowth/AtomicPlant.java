@@ -0,0 +1,235 @@
+package com.plantgrowth;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Thread-safe plant for many concurrent waterers. The whole state lives in
+ * one long word: the packed {@link PlantRules} state in the low byte and a
+ * sequence number of applied operations above it. Every watering and reset
+ * is a single compare-and-set of that word, so no update is lost or applied
+ * twice, no lock is taken, and operations take effect in sequence order.
+ */
+public final class AtomicPlant {
+    private static final int STATE_BITS = 8;
+    private static final long STATE_MASK = (1L << STATE_BITS) - 1;
+    private static final long ONE_OPERATION = 1L << STATE_BITS;
+    private static final VarHandle WORD;
+
+    static {
+        try {
+            WORD = MethodHandles.lookup().findVarHandle(AtomicPlant.class, "word", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final PlantRules rules;
+    @SuppressWarnings("unused") // Accessed through WORD
+    private volatile long word;
+
+    public AtomicPlant(PlantRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Water the plant once.
+     * @return {@link WaterOutcome} code describing what happened
+     */
+    public int water() {
+        return rules.outcome(stateOf(waterAndGetPrevious()));
+    }
+
+    /**
+     * Water the plant once, raising fatal outcomes as an exception.
+     * @see PlantEngine#waterOrThrow(String, String)
+     */
+    public int waterOrThrow(String diedMessage, String alreadyDeadMessage) throws OverWateringException {
+        return waterOrThrow(diedMessage, alreadyDeadMessage, true);
+    }
+
+    /**
+     * @see PlantEngine#waterOrThrow(String, String, boolean)
+     */
+    public int waterOrThrow(String diedMessage, String alreadyDeadMessage, boolean captureStackTrace)
+            throws OverWateringException {
+        return OverWateringException.throwIfFatal(water(), diedMessage, alreadyDeadMessage, captureStackTrace);
+    }
+
+    /**
+     * @return the word just before this watering took effect
+     */
+    long waterAndGetPrevious() {
+        long current = (long) WORD.getVolatile(this);
+        while (true) {
+            int state = stateOf(current);
+            long next = (current & ~STATE_MASK) + ONE_OPERATION | rules.next(state);
+            long witness = (long) WORD.compareAndExchange(this, current, next);
+            if (witness == current) {
+                SimulatorEvents.watered(state, rules.outcome(state), stateOf(next));
+                return current;
+            }
+            current = witness;
+        }
+    }
+
+    /**
+     * Return the plant to a freshly planted seed.
+     */
+    public void reset() {
+        resetAndGetPrevious();
+    }
+
+    /**
+     * @return the word just before this reset took effect
+     */
+    long resetAndGetPrevious() {
+        long current = (long) WORD.getVolatile(this);
+        while (true) {
+            long next = (current & ~STATE_MASK) + ONE_OPERATION;
+            long witness = (long) WORD.compareAndExchange(this, current, next);
+            if (witness == current) {
+                return current;
+            }
+            current = witness;
+        }
+    }
+
+    /**
+     * @return stage and water packed as described in {@link PlantRules}
+     */
+    public int getState() {
+        return stateOf((long) WORD.getVolatile(this));
+    }
+
+    public int getStage() {
+        return PlantRules.stageOf(getState());
+    }
+
+    public int getWaterAtCurrentStage() {
+        return PlantRules.waterOf(getState());
+    }
+
+    public boolean isDead() {
+        return getStage() == PlantRules.DEAD_STAGE;
+    }
+
+    /**
+     * @return number of waterings and resets applied so far
+     */
+    public long getOperationCount() {
+        return sequenceOf((long) WORD.getVolatile(this));
+    }
+
+    public PlantRules getRules() {
+        return rules;
+    }
+
+    static int stateOf(long word) {
+        return (int) (word & STATE_MASK);
+    }
+
+    static long sequenceOf(long word) {
+        return word >>> STATE_BITS;
+    }
+
+    /**
+     * Stress test: many threads water and occasionally reset a few shared
+     * plants. Each operation records the word it replaced; sorted by sequence
+     * number, those words must form exactly the history a single thread would
+     * produce, with no gaps, duplicates or wrong transitions.
+     * Usage: {@code AtomicPlant [threads] [operations per thread] [plants]}
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        int plantCount = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        PlantRules rules = PlantRules.GUI;
+        AtomicPlant[] plants = new AtomicPlant[plantCount];
+        for (int p = 0; p < plantCount; p++) {
+            plants[p] = new AtomicPlant(rules);
+        }
+
+        // Per thread and plant: the replaced words, with resets flagged by a negative sign
+        long[][][] history = new long[threads][plantCount][];
+        int[][] counts = new int[threads][plantCount];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            for (int p = 0; p < plantCount; p++) {
+                history[thread][p] = new long[operations];
+            }
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < operations; i++) {
+                    int p = random.nextInt(plantCount);
+                    AtomicPlant plant = plants[p];
+                    long recorded = random.nextInt(64) == 0
+                            ? ~plant.resetAndGetPrevious() : plant.waterAndGetPrevious();
+                    history[thread][p][counts[thread][p]++] = recorded;
+                }
+            });
+            workers[t].start();
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - began) / 1e9;
+
+        for (int p = 0; p < plantCount; p++) {
+            long total = 0;
+            for (int t = 0; t < threads; t++) {
+                total += counts[t][p];
+            }
+            long[] operationsBySequence = new long[(int) total];
+            boolean[] seen = new boolean[(int) total];
+            for (int t = 0; t < threads; t++) {
+                for (int i = 0; i < counts[t][p]; i++) {
+                    long recorded = history[t][p][i];
+                    long previous = recorded < 0 ? ~recorded : recorded;
+                    int sequence = (int) sequenceOf(previous);
+                    if (sequence >= total || seen[sequence]) {
+                        throw new IllegalStateException("Plant " + p + ": duplicate or impossible sequence "
+                                + sequence);
+                    }
+                    seen[sequence] = true;
+                    operationsBySequence[sequence] = recorded;
+                }
+            }
+            // Replay the history in sequence order against the single-threaded engine
+            PlantEngine reference = new PlantEngine(rules);
+            for (int sequence = 0; sequence < total; sequence++) {
+                long recorded = operationsBySequence[sequence];
+                boolean reset = recorded < 0;
+                int observed = stateOf(reset ? ~recorded : recorded);
+                if (observed != reference.getState()) {
+                    throw new IllegalStateException("Plant " + p + ": operation " + sequence + " saw state "
+                            + observed + " but the sequential history gives " + reference.getState());
+                }
+                if (reset) {
+                    reference.reset();
+                } else {
+                    reference.water();
+                }
+            }
+            if (plants[p].getState() != reference.getState() || plants[p].getOperationCount() != total) {
+                throw new IllegalStateException("Plant " + p + ": final state differs from the sequential history");
+            }
+            System.out.printf("Plant %d: %,d operations linearizable, final state %d%n", p, total,
+                    plants[p].getState());
+        }
+        System.out.printf("%d threads, %,d operations in %.1f ms (%,.0f ops/s)%n", threads,
+                (long) threads * operations, seconds * 1e3, threads * operations / seconds);
+    }
+}
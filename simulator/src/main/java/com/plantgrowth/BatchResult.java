@@ -0,0 +1,67 @@
+package com.plantgrowth;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of a batch run over a garden: final stage histogram, number of
+ * plants that died during the run and total waterings applied.
+ */
+public final class BatchResult {
+    private final long[] stageHistogram;
+    private final long deaths;
+    private final long totalWater;
+
+    public BatchResult(long[] stageHistogram, long deaths, long totalWater) {
+        this.stageHistogram = stageHistogram.clone();
+        this.deaths = deaths;
+        this.totalWater = totalWater;
+    }
+
+    public long[] getStageHistogram() {
+        return stageHistogram.clone();
+    }
+
+    public long getStageCount(int stage) {
+        return stageHistogram[stage];
+    }
+
+    public long getDeaths() {
+        return deaths;
+    }
+
+    public long getTotalWater() {
+        return totalWater;
+    }
+
+    BatchResult merge(BatchResult other) {
+        long[] histogram = stageHistogram.clone();
+        for (int stage = 0; stage < histogram.length; stage++) {
+            histogram[stage] += other.stageHistogram[stage];
+        }
+        return new BatchResult(histogram, deaths + other.deaths, totalWater + other.totalWater);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BatchResult)) {
+            return false;
+        }
+        BatchResult that = (BatchResult) o;
+        return deaths == that.deaths && totalWater == that.totalWater
+                && Arrays.equals(stageHistogram, that.stageHistogram);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(stageHistogram) + Long.hashCode(deaths)) + Long.hashCode(totalWater);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{stages=" + Arrays.toString(stageHistogram) + ", deaths=" + deaths
+                + ", totalWater=" + totalWater + "}";
+    }
+}
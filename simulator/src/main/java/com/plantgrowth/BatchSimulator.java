@@ -0,0 +1,151 @@
+package com.plantgrowth;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Applies a watering schedule to every plant of a garden, either on the
+ * calling thread or split into chunks across a {@link ForkJoinPool}. Both
+ * paths run the same transition-table loop, so the scaling report compares
+ * like with like. Plants are independent, so both produce identical gardens
+ * and identical {@link BatchResult}s.
+ */
+public final class BatchSimulator {
+    static final int CHUNK_SIZE = 1 << 16;
+
+    private BatchSimulator() {
+    }
+
+    /**
+     * Reference run: the whole garden as one chunk on the calling thread.
+     */
+    public static BatchResult runSequential(Garden garden, WateringSchedule schedule, int rounds) {
+        return runRange(garden, schedule, rounds, 0, garden.size());
+    }
+
+    public static BatchResult runParallel(Garden garden, WateringSchedule schedule, int rounds) {
+        return runParallel(garden, schedule, rounds, ForkJoinPool.commonPool());
+    }
+
+    public static BatchResult runParallel(Garden garden, WateringSchedule schedule, int rounds, ForkJoinPool pool) {
+        return pool.invoke(new ChunkTask(garden, schedule, rounds, 0, garden.size()));
+    }
+
+    static BatchResult runRange(Garden garden, WateringSchedule schedule, int rounds, int from, int to) {
+        byte[] states = garden.states();
+        byte[] table = garden.getRules().transitions;
+        long[] histogram = new long[PlantRules.TOTAL_STAGE_COUNT];
+        long[] entered = new long[PlantRules.TOTAL_STAGE_COUNT];
+        long deaths = 0;
+        long totalWater = 0;
+
+        for (int i = from; i < to; i++) {
+            int state = states[i];
+            int startStage = PlantRules.stageOf(state);
+            boolean wasDead = startStage == PlantRules.DEAD_STAGE;
+            for (int round = 0; round < rounds; round++) {
+                int waterings = schedule.wateringsFor(i, round);
+                totalWater += waterings;
+                for (int w = 0; w < waterings; w++) {
+                    state = table[state];
+                }
+            }
+            int stage = PlantRules.stageOf(state);
+            if (!wasDead && stage == PlantRules.DEAD_STAGE) {
+                deaths++;
+            }
+            histogram[stage]++;
+            if (SimulatorMetrics.ENABLED && stage != startStage) {
+                entered[stage]++;
+            }
+            states[i] = (byte) state;
+        }
+        garden.markDirty(from, to);
+        if (SimulatorMetrics.ENABLED) {
+            SimulatorMetrics.INSTANCE.recordBulk(totalWater, deaths, entered);
+        }
+        return new BatchResult(histogram, deaths, totalWater);
+    }
+
+    private static final class ChunkTask extends RecursiveTask<BatchResult> {
+        private final Garden garden;
+        private final WateringSchedule schedule;
+        private final int rounds;
+        private final int from;
+        private final int to;
+
+        ChunkTask(Garden garden, WateringSchedule schedule, int rounds, int from, int to) {
+            this.garden = garden;
+            this.schedule = schedule;
+            this.rounds = rounds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BatchResult compute() {
+            if (to - from <= CHUNK_SIZE) {
+                return runRange(garden, schedule, rounds, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(garden, schedule, rounds, from, mid);
+            ChunkTask right = new ChunkTask(garden, schedule, rounds, mid, to);
+            left.fork();
+            BatchResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+
+    /**
+     * Scaling report: runs the same batch at increasing thread counts, checks
+     * each result against the sequential reference and prints throughput.
+     * Usage: {@code BatchSimulator [plants] [rounds] [maxWateringsPerRound]}
+     */
+    public static void main(String[] args) {
+        int plants = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int maxWaterings = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        PlantRules rules = PlantRules.GUI;
+        WateringSchedule schedule = WateringSchedule.random(42L, maxWaterings);
+
+        Garden reference = new Garden(rules, plants);
+        long start = System.nanoTime();
+        BatchResult expected = runSequential(reference, schedule, rounds);
+        report("sequential", expected, System.nanoTime() - start, 1.0);
+        double baseline = 0;
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; ; threads = Math.min(threads * 2, cores)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                long best = Long.MAX_VALUE;
+                BatchResult result = null;
+                for (int run = 0; run < 3; run++) {
+                    Garden garden = new Garden(rules, plants);
+                    start = System.nanoTime();
+                    result = runParallel(garden, schedule, rounds, pool);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                if (!expected.equals(result)) {
+                    throw new IllegalStateException("Parallel result differs from sequential: " + result);
+                }
+                double throughput = result.getTotalWater() / (best / 1e9);
+                if (threads == 1) {
+                    baseline = throughput;
+                }
+                report(threads + " threads", result, best, throughput / baseline);
+            } finally {
+                pool.shutdown();
+            }
+            if (threads == cores) {
+                break;
+            }
+        }
+    }
+
+    private static void report(String label, BatchResult result, long nanos, double speedup) {
+        double seconds = nanos / 1e9;
+        System.out.printf("%-12s %8.1f ms  %8.1f M waterings/s  speedup %5.2fx  deaths %d%n",
+                label, seconds * 1e3, result.getTotalWater() / seconds / 1e6, speedup, result.getDeaths());
+    }
+}
@@ -0,0 +1,111 @@
+package com.plantgrowth;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Off-heap plant states in direct or mapped ByteBuffers of up to 1 GB each,
+ * the store used when the Foreign Memory API module is not added. The
+ * memory is released when the buffers are garbage collected.
+ */
+final class BufferStore extends OffHeapStore {
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_PLANTS = 1L << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = (int) SEGMENT_PLANTS - 1;
+
+    private final ByteBuffer[] segments;
+    private final boolean mapped;
+
+    private BufferStore(ByteBuffer[] segments, boolean mapped) {
+        this.segments = segments;
+        this.mapped = mapped;
+    }
+
+    static BufferStore allocate(long plants) {
+        ByteBuffer[] segments = new ByteBuffer[segmentCount(plants)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect(segmentSize(plants, i));
+        }
+        return new BufferStore(segments, false);
+    }
+
+    static BufferStore map(FileChannel channel, long offset, long plants) throws IOException {
+        MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount(plants)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset + i * SEGMENT_PLANTS,
+                    segmentSize(plants, i));
+        }
+        return new BufferStore(segments, true);
+    }
+
+    @Override
+    byte get(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) index & SEGMENT_MASK);
+    }
+
+    @Override
+    void set(long index, byte state) {
+        segments[(int) (index >>> SEGMENT_SHIFT)].put((int) index & SEGMENT_MASK, state);
+    }
+
+    @Override
+    void water(long from, long to, byte[] table) {
+        while (from < to) {
+            ByteBuffer segment = segments[(int) (from >>> SEGMENT_SHIFT)];
+            int start = (int) from & SEGMENT_MASK;
+            int end = (int) Math.min(to - from + start, segment.capacity());
+            for (int i = start; i < end; i++) {
+                segment.put(i, table[segment.get(i)]);
+            }
+            from += end - start;
+        }
+    }
+
+    @Override
+    void reset(long from, long to) {
+        for (long i = from; i < to; i++) {
+            set(i, (byte) 0);
+        }
+    }
+
+    @Override
+    void addStateCounts(long from, long to, long[] perState) {
+        while (from < to) {
+            ByteBuffer segment = segments[(int) (from >>> SEGMENT_SHIFT)];
+            int start = (int) from & SEGMENT_MASK;
+            int end = (int) Math.min(to - from + start, segment.capacity());
+            for (int i = start; i < end; i++) {
+                perState[segment.get(i)]++;
+            }
+            from += end - start;
+        }
+    }
+
+    @Override
+    void force() {
+        if (mapped) {
+            for (ByteBuffer segment : segments) {
+                ((MappedByteBuffer) segment).force();
+            }
+        }
+    }
+
+    @Override
+    void release() {
+        // Buffers are freed by the garbage collector
+    }
+
+    private static int segmentCount(long plants) {
+        long count = (plants + SEGMENT_PLANTS - 1) >>> SEGMENT_SHIFT;
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Garden too large: " + plants);
+        }
+        return (int) count;
+    }
+
+    private static int segmentSize(long plants, int segment) {
+        return (int) Math.min(SEGMENT_PLANTS, plants - segment * SEGMENT_PLANTS);
+    }
+}
@@ -0,0 +1,200 @@
+package com.plantgrowth;
+
+import java.io.PrintWriter;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+/**
+ * Live terminal dashboard for the console simulator. It shows a demo
+ * population of its own, not the interactive plant, a state file or a
+ * script: every frame replants some of the dead and waters each plant zero
+ * or one times at random under the rules in force at start, so the
+ * population settles into a steady state, then redraws through an
+ * {@link AnsiScreen}. A single plant is shown in detail; a larger population
+ * as a stage histogram with deaths and waterings per second.
+ *
+ * A frame is one parallel pass over chunks of the garden: each chunk is
+ * replanted and then watered by {@link BatchSimulator} while it is still in
+ * cache, so the frame rate scales with cores rather than being held back by
+ * a serial scan. Stage art, progress bars, histogram bars and labels are
+ * built once, so a frame only formats a few numbers and sends the lines
+ * that changed.
+ */
+final class ConsoleDashboard {
+    private static final int BAR_WIDTH = 24;
+    private static final int ART_HEIGHT = 6;
+    /** Each dead plant is replanted with a chance of one in this many per frame. */
+    private static final int REPLANT_ODDS = 16;
+    private static final String RULE = "=".repeat(50);
+
+    private static final String[] BARS = new String[BAR_WIDTH + 1];
+    private static final String[] STAGE_LABELS = new String[PlantRules.TOTAL_STAGE_COUNT];
+    private static final String[][] ART_LINES = new String[PlantRules.TOTAL_STAGE_COUNT][];
+
+    static {
+        for (int filled = 0; filled <= BAR_WIDTH; filled++) {
+            BARS[filled] = "█".repeat(filled) + "░".repeat(BAR_WIDTH - filled);
+        }
+        for (int stage = 0; stage < PlantRules.TOTAL_STAGE_COUNT; stage++) {
+            STAGE_LABELS[stage] = String.format("%-16s", ConsolePlantSimulator.stageName(stage));
+            String[] art = ConsolePlantSimulator.PLANT_ART[stage].split("\n");
+            ART_LINES[stage] = new String[ART_HEIGHT];
+            for (int line = 0; line < ART_HEIGHT; line++) {
+                ART_LINES[stage][line] = line < art.length ? "    " + art[line] : "";
+            }
+        }
+    }
+
+    private final Garden garden;
+    private final long seed;
+    private final WateringSchedule replantSchedule;
+    private long[] histogram;
+    private long frame;
+    private long deaths;
+    private long totalWater;
+
+    private long rateStartNanos = System.nanoTime();
+    private long rateStartWater;
+    private long wateringsPerSecond;
+
+    ConsoleDashboard(Garden garden, long seed) {
+        this.garden = garden;
+        this.seed = seed;
+        this.replantSchedule = WateringSchedule.random(~seed, REPLANT_ODDS - 1);
+        this.histogram = garden.stageHistogram();
+    }
+
+    /**
+     * Replant some of the dead and water the population for one frame.
+     */
+    void step() {
+        WateringSchedule watering = WateringSchedule.random(seed + frame, 1);
+        boolean replanting = histogram[PlantRules.DEAD_STAGE] > 0;
+        int chunks = (garden.size() + BatchSimulator.CHUNK_SIZE - 1) / BatchSimulator.CHUNK_SIZE;
+        BatchResult result = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    int from = chunk * BatchSimulator.CHUNK_SIZE;
+                    int to = (int) Math.min(garden.size(), (long) from + BatchSimulator.CHUNK_SIZE);
+                    if (replanting) {
+                        replant(from, to);
+                    }
+                    return BatchSimulator.runRange(garden, watering, 1, from, to);
+                })
+                .reduce(BatchResult::merge)
+                .orElseGet(() -> new BatchResult(new long[PlantRules.TOTAL_STAGE_COUNT], 0, 0));
+        histogram = result.getStageHistogram();
+        deaths += result.getDeaths();
+        totalWater += result.getTotalWater();
+        frame++;
+
+        long now = System.nanoTime();
+        if (now - rateStartNanos >= 1_000_000_000L) {
+            wateringsPerSecond = (totalWater - rateStartWater) * 1_000_000_000L / (now - rateStartNanos);
+            rateStartNanos = now;
+            rateStartWater = totalWater;
+        }
+    }
+
+    /**
+     * Return each dead plant of {@code [from, to)} to a seed with a chance of
+     * one in {@link #REPLANT_ODDS}; the watering pass that follows marks the
+     * range dirty.
+     */
+    private void replant(int from, int to) {
+        byte[] states = garden.states();
+        int round = (int) frame;
+        for (int i = from; i < to; i++) {
+            if (PlantRules.stageOf(states[i]) == PlantRules.DEAD_STAGE && replantSchedule.wateringsFor(i, round) == 0) {
+                states[i] = 0;
+            }
+        }
+    }
+
+    String[] lines() {
+        return garden.size() == 1 ? plantLines() : populationLines();
+    }
+
+    private String[] plantLines() {
+        int state = garden.getState(0);
+        int stage = PlantRules.stageOf(state);
+        String[] lines = new String[ART_HEIGHT + 11];
+        int row = 0;
+        lines[row++] = String.format("Plant Dashboard%35s", "frame " + frame);
+        lines[row++] = RULE;
+        for (String art : ART_LINES[stage]) {
+            lines[row++] = art;
+        }
+        lines[row++] = "Stage: " + ConsolePlantSimulator.stageName(stage) + " (" + (stage + 1) + "/"
+                + PlantRules.TOTAL_STAGE_COUNT + ")";
+        lines[row++] = "Description: " + ConsolePlantSimulator.stageDescription(stage);
+        lines[row++] = "Water at current stage: " + PlantRules.waterOf(state);
+        lines[row++] = "Total water given: " + totalWater;
+        lines[row++] = "Deaths: " + deaths;
+        lines[row++] = "Progress: " + ConsolePlantSimulator.PROGRESS_BARS[stage];
+        lines[row++] = "Waterings/sec: " + wateringsPerSecond;
+        lines[row++] = RULE;
+        lines[row] = "Ctrl+C to stop";
+        return lines;
+    }
+
+    private String[] populationLines() {
+        String[] lines = new String[PlantRules.TOTAL_STAGE_COUNT + 7];
+        int row = 0;
+        lines[row++] = String.format("Garden Dashboard%34s", "frame " + frame);
+        lines[row++] = RULE;
+        lines[row++] = String.format("Plants %,d   Deaths %,d", garden.size(), deaths);
+        lines[row++] = String.format("Waterings %,d   (%,d/sec)", totalWater, wateringsPerSecond);
+        lines[row++] = RULE;
+        for (int stage = 0; stage < PlantRules.TOTAL_STAGE_COUNT; stage++) {
+            double share = (double) histogram[stage] / garden.size();
+            lines[row++] = STAGE_LABELS[stage] + String.format("%,11d %5.1f%% ", histogram[stage], share * 100)
+                    + BARS[(int) Math.round(share * BAR_WIDTH)];
+        }
+        lines[row++] = RULE;
+        lines[row] = "Ctrl+C to stop";
+        return lines;
+    }
+
+    /**
+     * Step and redraw at the given rate until the frame count is reached, or
+     * until the JVM is asked to exit when it is 0. Reports the output saved
+     * by redrawing only changes on standard error.
+     */
+    void run(PrintWriter out, int framesPerSecond, long frames) {
+        Thread runner = Thread.currentThread();
+        Thread stopper = new Thread(() -> {
+            runner.interrupt();
+            try {
+                runner.join(1000);
+            } catch (InterruptedException e) {
+                // Exit anyway
+            }
+        });
+        Runtime.getRuntime().addShutdownHook(stopper);
+
+        long period = 1_000_000_000L / framesPerSecond;
+        AnsiScreen screen = new AnsiScreen(out);
+        try {
+            long next = System.nanoTime();
+            for (long f = 0; (frames == 0 || f < frames) && !Thread.currentThread().isInterrupted(); f++) {
+                step();
+                screen.render(lines());
+                next += period;
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else {
+                    // Running behind: drop the missed frames rather than rushing to catch up
+                    next = System.nanoTime();
+                }
+            }
+        } finally {
+            screen.close();
+            System.err.printf("%,d frames, %,d characters sent (%.1f%% of redrawing every line)%n", frame,
+                    screen.getCharsWritten(), 100.0 * screen.getCharsWritten() / Math.max(1, screen.getFullRedrawChars()));
+            if (!Thread.interrupted()) {
+                Runtime.getRuntime().removeShutdownHook(stopper);
+            }
+        }
+    }
+}
@@ -0,0 +1,535 @@
+package com.plantgrowth;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Scanner;
+
+/**
+ * Console-based Virtual Plant Growth Simulator
+ * Provides an interactive text-based interface when GUI is not available,
+ * and a scripted mode that replays water/reset/status commands from a file
+ * or pipe without prompts, delays or per-step output.
+ */
+public class ConsolePlantSimulator {
+    private static final int GROWTH_STAGE_COUNT = 4;
+    private static final int TOTAL_STAGE_COUNT = 7;
+
+    private static final String STATUS_RULE = "=".repeat(50);
+    private static final String MENU_RULE = "─".repeat(30);
+    private static final String USAGE = "Usage: ConsolePlantSimulator [--rules <file>] [--state <file>]"
+            + " [--journal <dir>] [--script [file|-] | --dashboard [plants] [fps] [frames]]";
+
+    /** Art and progress bar of every stage, built once rather than on every status. */
+    static final String[] PLANT_ART = new String[TOTAL_STAGE_COUNT];
+    static final String[] PROGRESS_BARS = new String[TOTAL_STAGE_COUNT];
+
+    static {
+        for (int stage = 0; stage < TOTAL_STAGE_COUNT; stage++) {
+            PLANT_ART[stage] = getPlantArt(stage);
+            PROGRESS_BARS[stage] = getProgressBar(stage, TOTAL_STAGE_COUNT - 1);
+        }
+    }
+
+    private final PlantEngine engine;
+    private long totalWaterGiven = 0;
+    private final PrintWriter out;
+    private final GardenFile stateFile;
+    private final PlantJournal journal;
+
+    private enum GrowthStage {
+        SEED("Seed", "A tiny seed settling into the soil."),
+        SPROUT("Sprout", "First leaves are unfurling."),
+        YOUNG_PLANT("Young Plant", "The stem is strengthening and new leaves appear."),
+        FLOWERING_PLANT("Flowering Plant", "The plant is in full bloom. Water with care."),
+        WILTING("Wilting", "Too much water is stressing the plant."),
+        DYING("Dying", "Roots are decaying and the stem is weakening."),
+        DEAD("Dead", "The plant has died. Reset to try again.");
+
+        private final String displayName;
+        private final String description;
+
+        GrowthStage(String displayName, String description) {
+            this.displayName = displayName;
+            this.description = description;
+        }
+    }
+
+    public ConsolePlantSimulator() {
+        this(new PrintWriter(System.out, true));
+    }
+
+    /**
+     * @param out destination for all output; flushed after prompts and at the end of a script
+     */
+    public ConsolePlantSimulator(PrintWriter out) {
+        this(out, null, new LiveRules(PlantRules.CONSOLE));
+    }
+
+    /**
+     * @param stateFile single-plant save file to resume from and save to, or null
+     * @param rules rules to follow, including later swaps
+     */
+    public ConsolePlantSimulator(PrintWriter out, GardenFile stateFile, LiveRules rules) {
+        this(out, stateFile, null, rules);
+    }
+
+    /**
+     * @param journal history to resume from and record every watering and reset in, or null;
+     *                takes precedence over the state file when resuming
+     */
+    ConsolePlantSimulator(PrintWriter out, GardenFile stateFile, PlantJournal journal, LiveRules rules) {
+        this.out = out;
+        this.engine = new PlantEngine(rules);
+        this.stateFile = stateFile;
+        this.journal = journal;
+        if (journal != null) {
+            engine.setState(journal.getState());
+        } else if (stateFile != null) {
+            try {
+                engine.setState(stateFile.getState(0));
+            } catch (IOException e) {
+                System.err.println("Could not restore the plant: " + e.getMessage());
+            }
+        }
+    }
+
+    public void run() {
+        Scanner scanner = new Scanner(System.in);
+        out.println("=== Virtual Plant Growth Simulator - Console Edition ===");
+        out.println(STATUS_RULE);
+
+        boolean running = true;
+        while (running) {
+            displayStatus();
+            displayMenu();
+
+            out.print("Choose an option (1-3): ");
+            out.flush();
+            String choice = scanner.nextLine().trim();
+
+            switch (choice) {
+                case "1" -> {
+                    int previousState = engine.getState();
+                    waterPlant();
+                    recordWatering(previousState, 1);
+                    saveState();
+                }
+                case "2" -> {
+                    resetPlant();
+                    recordReset();
+                    saveState();
+                }
+                case "3" -> {
+                    out.println("Thanks for playing! Goodbye!");
+                    running = false;
+                }
+                default -> out.println("Invalid choice. Please enter 1, 2, or 3.");
+            }
+
+            out.println();
+        }
+
+        scanner.close();
+    }
+
+    /**
+     * Replay a command script. One command per line: {@code water [count]},
+     * {@code reset}, {@code status} or {@code exit}; blank lines and lines
+     * starting with {@code #} are ignored. Waterings are applied without
+     * messages or delays, and output is only produced by {@code status}.
+     * The plant is saved once at the end of the script.
+     * @throws IllegalArgumentException on a malformed line, naming the line number
+     */
+    public void runScript(BufferedReader script) throws IOException {
+        String line;
+        int lineNumber = 0;
+        try {
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                String command = line.trim();
+                if (command.isEmpty() || command.startsWith("#")) {
+                    continue;
+                }
+
+                int space = command.indexOf(' ');
+                String name = space < 0 ? command : command.substring(0, space);
+                String argument = space < 0 ? null : command.substring(space + 1).trim();
+                switch (name) {
+                    case "water" -> waterQuietly(argument == null ? 1 : parseCount(argument, lineNumber));
+                    case "reset" -> {
+                        engine.reset();
+                        totalWaterGiven = 0;
+                        recordReset();
+                    }
+                    case "status" -> displayStatus();
+                    case "exit", "quit" -> {
+                        return;
+                    }
+                    default -> throw new IllegalArgumentException(
+                            "Line " + lineNumber + ": unknown command '" + name + "'");
+                }
+            }
+        } finally {
+            saveState();
+            out.flush();
+        }
+    }
+
+    private static long parseCount(String argument, int lineNumber) {
+        try {
+            long count = Long.parseLong(argument);
+            if (count >= 0) {
+                return count;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Line " + lineNumber + ": invalid repeat count '" + argument + "'");
+    }
+
+    private void waterQuietly(long count) {
+        int previousState = engine.getState();
+        for (long i = 0; i < count; i++) {
+            int before = engine.getState();
+            engine.water();
+            if (engine.getState() == before) {
+                // Fixed point (a dead plant): the remaining waterings change nothing
+                break;
+            }
+        }
+        totalWaterGiven += count;
+        recordWatering(previousState, count);
+    }
+
+    private void displayStatus() {
+        int currentStage = engine.getStage();
+        GrowthStage stage = GrowthStage.values()[currentStage];
+
+        out.println();
+        out.println(STATUS_RULE);
+        out.println("PLANT STATUS");
+        out.println(STATUS_RULE);
+        out.println(PLANT_ART[currentStage]);
+        out.println("Stage: " + stage.displayName + " (" + (currentStage + 1) + "/" + TOTAL_STAGE_COUNT + ")");
+        out.println("Description: " + stage.description);
+        out.println("Total water given: " + totalWaterGiven);
+        out.println("Water at current stage: " + engine.getWaterAtCurrentStage());
+        out.println("Progress: " + PROGRESS_BARS[currentStage]);
+    }
+
+    private void displayMenu() {
+        out.println();
+        out.println(MENU_RULE);
+        out.println("MENU");
+        out.println(MENU_RULE);
+        out.println("1. Water the plant");
+        out.println("2. Reset plant");
+        out.println("3. Exit");
+        out.println(MENU_RULE);
+    }
+
+    private void waterPlant() {
+        totalWaterGiven++;
+
+        out.println("Watering your plant...");
+
+        try {
+            int outcome = engine.waterOrThrow(
+                    "The plant could not recover from overwatering and has died.",
+                    "The plant is already dead. Please reset to start over.");
+            switch (outcome) {
+                case WaterOutcome.GREW -> handleGrowthWatering();
+                case WaterOutcome.ABSORBED -> handleAbsorbedWatering();
+                case WaterOutcome.DECLINED -> announceDeclineStage();
+                default -> { }
+            }
+        } catch (OverWateringException e) {
+            if (e.getOutcome() == WaterOutcome.DIED) {
+                announceDeclineStage();
+            }
+            out.println("OVERWATERING ALERT: " + e.getMessage());
+            out.println("The plant has died. Please reset to try again.");
+            return;
+        }
+
+        // Small delay for better UX
+        try {
+            Thread.sleep(800);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handleGrowthWatering() {
+        int currentStage = engine.getStage();
+        if (currentStage < GROWTH_STAGE_COUNT) {
+            GrowthStage newStage = GrowthStage.values()[currentStage];
+            out.println("GROWTH PROGRESS: " + newStage.description);
+            out.println("Your plant advanced to: " + newStage.displayName);
+        } else {
+            out.println("Your plant is in full bloom! Additional watering may cause decline.");
+        }
+    }
+
+    private void handleAbsorbedWatering() {
+        int currentStage = engine.getStage();
+        if (currentStage < GROWTH_STAGE_COUNT - 1) {
+            out.println("Plant received water. Keep watering to advance to the next stage!");
+        } else if (currentStage == GROWTH_STAGE_COUNT
+                && engine.getWaterAtCurrentStage() <= engine.getRules().getSafeWaterAtFlowering()) {
+            out.println("The flowering plant absorbed the water. Give it time before watering again.");
+        }
+    }
+
+    private void announceDeclineStage() {
+        GrowthStage stage = GrowthStage.values()[engine.getStage()];
+        out.println("WARNING: " + stage.displayName.toUpperCase() + ": " + stage.description);
+    }
+
+    private void resetPlant() {
+        engine.reset();
+        totalWaterGiven = 0;
+        out.println("Plant has been reset to seed stage!");
+        out.println("Start watering your new seed to begin growth.");
+    }
+
+    private void recordWatering(int previousState, long count) {
+        if (journal != null) {
+            try {
+                journal.watered(previousState, count, engine);
+            } catch (IOException e) {
+                System.err.println("Could not record the watering: " + e.getMessage());
+            }
+        }
+    }
+
+    private void recordReset() {
+        if (journal != null) {
+            try {
+                journal.reset();
+            } catch (IOException e) {
+                System.err.println("Could not record the reset: " + e.getMessage());
+            }
+        }
+    }
+
+    private void saveState() {
+        if (stateFile != null) {
+            try {
+                stateFile.setRules(engine.getRules());
+                stateFile.setState(0, engine.getState());
+            } catch (IOException e) {
+                System.err.println("Could not save the plant: " + e.getMessage());
+            }
+        }
+        if (journal != null) {
+            try {
+                journal.flush();
+            } catch (IOException e) {
+                System.err.println("Could not write the journal: " + e.getMessage());
+            }
+        }
+    }
+
+    static String stageName(int stage) {
+        return GrowthStage.values()[stage].displayName;
+    }
+
+    static String stageDescription(int stage) {
+        return GrowthStage.values()[stage].description;
+    }
+
+    static String getPlantArt(int stage) {
+        return switch (stage) {
+            case 0 -> """
+                    .
+                     |
+                    """;
+            case 1 -> """
+                    *
+                     |
+                     |
+                    """;
+            case 2 -> """
+                    * *
+                     |
+                     |
+                     |
+                    """;
+            case 3 -> """
+                    @ * @
+                     |
+                     |
+                     |
+                     |
+                    """;
+            case 4 -> """
+                    ~ * ~
+                     |
+                     |
+                     |
+                    """;
+            case 5 -> """
+                    X
+                     |
+                     |
+                    """;
+            case 6 -> """
+                    [RIP]
+                    """;
+            default -> ".";
+        };
+    }
+
+    static String getProgressBar(int current, int max) {
+        int barLength = 20;
+        int filled = (int) ((double) current / max * barLength);
+        StringBuilder bar = new StringBuilder("[");
+
+        for (int i = 0; i < barLength; i++) {
+            if (i < filled) {
+                bar.append("█");
+            } else if (i == filled) {
+                bar.append("▒");
+            } else {
+                bar.append("░");
+            }
+        }
+        bar.append("] ").append(current + 1).append("/").append(max + 1);
+        return bar.toString();
+    }
+
+    /**
+     * Usage: {@code ConsolePlantSimulator [--rules <file>] [--state <file>]} for
+     * the interactive menu, or with {@code --script [file|-]} added at the end
+     * to replay a script from a file or standard input, or with
+     * {@code --dashboard [plants] [fps] [frames]} for a live dashboard of a
+     * demo plant or population watered at random (frames 0, the default, runs
+     * until Ctrl+C). With a rules file the rules are loaded from it and
+     * reloaded whenever it changes; with a state file the plant resumes from
+     * where the previous run left it.
+     * With {@code --journal <dir>} every watering and reset is also recorded
+     * in a {@link GardenJournal} there, and the plant resumes from its replay.
+     * The dashboard uses the rules in force at start and never touches the
+     * state file or journal.
+     */
+    public static void main(String[] args) throws IOException {
+        String rulesPath = null;
+        String statePath = null;
+        String journalPath = null;
+        int argument = 0;
+        while (argument < args.length && args[argument].startsWith("--")
+                && !args[argument].equals("--script") && !args[argument].equals("--dashboard")) {
+            String option = args[argument];
+            if (!option.equals("--rules") && !option.equals("--state") && !option.equals("--journal")) {
+                exitWithUsage("Unknown option " + option);
+            }
+            if (argument + 1 == args.length) {
+                exitWithUsage(option + (option.equals("--journal") ? " needs a directory" : " needs a file"));
+            }
+            switch (option) {
+                case "--rules" -> rulesPath = args[argument + 1];
+                case "--state" -> statePath = args[argument + 1];
+                default -> journalPath = args[argument + 1];
+            }
+            argument += 2;
+        }
+        if (argument < args.length && !args[argument].equals("--script") && !args[argument].equals("--dashboard")) {
+            exitWithUsage("Unexpected argument " + args[argument]);
+        }
+
+        LiveRules rules = new LiveRules(PlantRules.CONSOLE);
+        if (rulesPath != null) {
+            try {
+                rules = LiveRules.watch(Paths.get(rulesPath));
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Could not load rules, using the defaults: " + e.getMessage());
+            }
+        }
+        GardenFile stateFile = null;
+        if (statePath != null) {
+            try {
+                stateFile = GardenFile.openOrCreate(Paths.get(statePath), rules.get(), 1);
+            } catch (IOException e) {
+                System.err.println("Could not open " + statePath + ": " + e.getMessage());
+                System.exit(1);
+            }
+        }
+        PlantJournal journal = null;
+        if (journalPath != null) {
+            try {
+                journal = PlantJournal.openOrCreate(Paths.get(journalPath), rules.get());
+            } catch (IOException e) {
+                System.err.println("Could not open the journal in " + journalPath + ": " + e.getMessage());
+                System.exit(1);
+            }
+        }
+
+        int status = 0;
+        try {
+            if (args.length > argument && args[argument].equals("--script")) {
+                String source = args.length > argument + 1 ? args[argument + 1] : "-";
+                PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16));
+                try (BufferedReader script = source.equals("-")
+                        ? new BufferedReader(new InputStreamReader(System.in), 1 << 16)
+                        : Files.newBufferedReader(Paths.get(source))) {
+                    new ConsolePlantSimulator(out, stateFile, journal, rules).runScript(script);
+                } catch (IllegalArgumentException e) {
+                    // Exit only once the state file and journal have been closed below
+                    System.err.println(e.getMessage());
+                    status = 1;
+                }
+            } else if (args.length > argument && args[argument].equals("--dashboard")) {
+                int plants = (int) parseCount(args, argument + 1, "plants", 1, 1, Integer.MAX_VALUE);
+                int framesPerSecond = (int) parseCount(args, argument + 2, "fps", 10, 1, 1000);
+                long frames = parseCount(args, argument + 3, "frames", 0, 0, Long.MAX_VALUE);
+                PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16));
+                new ConsoleDashboard(new Garden(rules.get(), plants), 1L).run(out, framesPerSecond, frames);
+            } else {
+                new ConsolePlantSimulator(new PrintWriter(System.out, true), stateFile, journal, rules).run();
+            }
+        } finally {
+            if (stateFile != null) {
+                stateFile.close();
+            }
+            if (journal != null) {
+                journal.close();
+            }
+        }
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * @return the optional argument at {@code index} as a whole number in
+     *         {@code [min, max]}, or {@code fallback} if it is absent
+     */
+    private static long parseCount(String[] args, int index, String name, long fallback, long min, long max) {
+        if (index >= args.length) {
+            return fallback;
+        }
+        try {
+            long value = Long.parseLong(args[index]);
+            if (value >= min && value <= max) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        exitWithUsage(name + " must be a whole number from " + min + " to " + max + " but was '" + args[index] + "'");
+        return fallback;
+    }
+
+    private static void exitWithUsage(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        System.exit(1);
+    }
+}
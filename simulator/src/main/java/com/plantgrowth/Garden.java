@@ -0,0 +1,290 @@
+package com.plantgrowth;
+
+import java.util.Arrays;
+
+/**
+ * A population of plants stored as one packed state byte per plant.
+ * Each byte holds the stage (3 bits) and the water received at that stage
+ * (4 bits) in the {@link PlantRules} layout, so ten million plants fit in
+ * roughly ten megabytes and bulk operations are linear sweeps over one array.
+ */
+public final class Garden {
+    /** Plants per page for dirty tracking and paged persistence. */
+    public static final int PAGE_PLANTS = 4096;
+    private static final int PAGE_SHIFT = 12;
+    /** Repeat counts whose composed tables are kept; larger ones are composed per call. */
+    private static final int CACHED_SWEEPS = 16;
+
+    private PlantRules rules;
+    private final byte[] states;
+    private final long[] dirtyPages;
+    /** Sweeps under {@code rules} indexed by repeat count, created on first use. */
+    private final Sweep[] sweeps = new Sweep[CACHED_SWEEPS + 1];
+
+    /**
+     * Create a garden of seeds.
+     * @param rules watering rules shared by every plant
+     * @param size number of plants
+     */
+    public Garden(PlantRules rules, int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Garden size must not be negative: " + size);
+        }
+        this.rules = rules;
+        this.states = new byte[size];
+        this.dirtyPages = new long[(pageCount() + 63) >>> 6];
+    }
+
+    public int size() {
+        return states.length;
+    }
+
+    public PlantRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Apply new rules to later waterings, as a journal replay does at a recorded rules change.
+     */
+    void setRules(PlantRules rules) {
+        this.rules = rules;
+        Arrays.fill(sweeps, null);
+    }
+
+    public int pageCount() {
+        return (states.length + PAGE_PLANTS - 1) >>> PAGE_SHIFT;
+    }
+
+    /**
+     * @return first page at or after {@code fromPage} changed since the last
+     *         {@link #clearDirty()}, or -1 if there is none
+     */
+    public int nextDirtyPage(int fromPage) {
+        int word = fromPage >>> 6;
+        if (word >= dirtyPages.length) {
+            return -1;
+        }
+        long bits = dirtyPages[word] & (-1L << fromPage);
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == dirtyPages.length) {
+                return -1;
+            }
+            bits = dirtyPages[word];
+        }
+    }
+
+    public void clearDirty() {
+        Arrays.fill(dirtyPages, 0L);
+    }
+
+    void markDirty(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int last = (to - 1) >>> PAGE_SHIFT;
+        for (int page = from >>> PAGE_SHIFT; page <= last; page++) {
+            dirtyPages[page >>> 6] |= 1L << page;
+        }
+    }
+
+    /**
+     * Water every plant in {@code [from, to)} once, with the vector kernel
+     * when {@link WateringKernel#isAvailable()}.
+     */
+    public void water(int from, int to) {
+        checkRange(from, to);
+        markDirty(from, to);
+        sweepRange(from, to, 1);
+    }
+
+    /**
+     * Water one plant the given number of times.
+     */
+    public void waterPlant(int index, int times) {
+        byte[] table = rules.transitions;
+        int state = states[index];
+        for (int t = 0; t < times; t++) {
+            int next = table[state];
+            if (next == state) {
+                break;
+            }
+            state = next;
+        }
+        states[index] = (byte) state;
+        markDirty(index, index + 1);
+    }
+
+    /**
+     * Water every plant in {@code [from, to)} once and tally what happened.
+     * @param outcomeCounts array of at least {@link WaterOutcome#COUNT} counters,
+     *                      incremented per {@link WaterOutcome} code
+     */
+    public void water(int from, int to, long[] outcomeCounts) {
+        checkRange(from, to);
+        markDirty(from, to);
+        byte[] table = rules.transitions;
+        long[] perState = new long[PlantRules.STATE_COUNT];
+        byte[] s = states;
+        for (int i = from; i < to; i++) {
+            int state = s[i];
+            perState[state]++;
+            s[i] = table[state];
+        }
+        for (int state = 0; state < perState.length; state++) {
+            outcomeCounts[rules.outcome(state)] += perState[state];
+        }
+        if (SimulatorMetrics.ENABLED) {
+            SimulatorMetrics.INSTANCE.recordSweep(perState, table, 1);
+        }
+    }
+
+    /**
+     * Water every plant in {@code [from, to)} the given number of times.
+     * The repeated transition is composed into a single table first, so each
+     * plant is still touched exactly once regardless of {@code times}.
+     */
+    public void water(int from, int to, int times) {
+        checkRange(from, to);
+        if (times <= 0) {
+            return;
+        }
+        markDirty(from, to);
+        sweepRange(from, to, times);
+    }
+
+    /**
+     * Reset every plant in {@code [from, to)} to a seed.
+     */
+    public void reset(int from, int to) {
+        checkRange(from, to);
+        markDirty(from, to);
+        Arrays.fill(states, from, to, (byte) 0);
+    }
+
+    public int getStage(int index) {
+        return PlantRules.stageOf(states[index]);
+    }
+
+    public int getWaterAtCurrentStage(int index) {
+        return PlantRules.waterOf(states[index]);
+    }
+
+    /**
+     * @return packed state of one plant as described in {@link PlantRules}
+     */
+    public int getState(int index) {
+        return states[index];
+    }
+
+    public void setState(int index, int state) {
+        if (state < 0 || state >= PlantRules.STATE_COUNT) {
+            throw new IllegalArgumentException("Invalid packed plant state: " + state);
+        }
+        states[index] = (byte) state;
+        markDirty(index, index + 1);
+    }
+
+    /**
+     * Count plants per stage over {@code [from, to)}, adding into {@code histogram}.
+     * @param histogram array of at least {@link PlantRules#TOTAL_STAGE_COUNT} counters
+     */
+    public void addStageCounts(int from, int to, long[] histogram) {
+        checkRange(from, to);
+        // Count per packed state first; the stage lookup then runs 112 times instead of N times
+        int[] perState = new int[PlantRules.STATE_COUNT];
+        byte[] s = states;
+        for (int i = from; i < to; i++) {
+            perState[s[i]]++;
+        }
+        for (int state = 0; state < perState.length; state++) {
+            histogram[PlantRules.stageOf(state)] += perState[state];
+        }
+    }
+
+    public long[] stageHistogram() {
+        long[] histogram = new long[PlantRules.TOTAL_STAGE_COUNT];
+        addStageCounts(0, states.length, histogram);
+        return histogram;
+    }
+
+    byte[] states() {
+        return states;
+    }
+
+    private void sweepRange(int from, int to, int times) {
+        Sweep sweep = sweep(times);
+        if (SimulatorMetrics.ENABLED) {
+            // Counted before the sweep, so the metrics see where each plant started
+            long[] perState = new long[PlantRules.STATE_COUNT];
+            for (int i = from; i < to; i++) {
+                perState[states[i]]++;
+            }
+            SimulatorMetrics.INSTANCE.recordSweep(perState, sweep.table, times);
+        }
+        sweep.water(states, from, to);
+    }
+
+    private Sweep sweep(int times) {
+        if (times > CACHED_SWEEPS) {
+            return new Sweep(compose(rules.transitions, times));
+        }
+        // Racing sweeps on disjoint ranges may both create one; either is correct
+        Sweep sweep = sweeps[times];
+        if (sweep == null) {
+            sweep = new Sweep(times == 1 ? rules.transitions : compose(rules.transitions, times));
+            sweeps[times] = sweep;
+        }
+        return sweep;
+    }
+
+    static byte[] compose(byte[] table, int times) {
+        byte[] composed = new byte[table.length];
+        for (int state = 0; state < table.length; state++) {
+            int next = state;
+            // Stages never go backwards, so every chain settles on a fixed point within a few steps
+            for (int t = 0; t < times; t++) {
+                int following = table[next];
+                if (following == next) {
+                    break;
+                }
+                next = following;
+            }
+            composed[state] = (byte) next;
+        }
+        return composed;
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > states.length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for garden of "
+                    + states.length + " plants");
+        }
+    }
+
+    /**
+     * A transition table and, where available, the vector kernel applying it.
+     */
+    private static final class Sweep {
+        private final byte[] table;
+        private final WateringKernel kernel;
+
+        Sweep(byte[] table) {
+            this.table = table;
+            this.kernel = WateringKernel.forTable(table);
+        }
+
+        void water(byte[] states, int from, int to) {
+            if (kernel != null) {
+                kernel.water(states, from, to);
+                return;
+            }
+            byte[] table = this.table;
+            for (int i = from; i < to; i++) {
+                states[i] = table[states[i]];
+            }
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package com.plantgrowth;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Compact save file for plant states. Each plant takes 7 bits (its packed
+ * state), so eight plants fit in seven bytes. Plants are grouped into pages of
+ * {@link Garden#PAGE_PLANTS}; pages are memory-mapped on first use, so a
+ * window of a very large population can be loaded without touching the rest,
+ * and saving a Garden writes back only the pages it marked dirty.
+ *
+ * Layout: a 64-byte versioned header holding the plant count, page size and
+ * rules, followed by the pages. A freshly created file holds only seeds.
+ * Packed states mean the same under any rules, so the header's rules only
+ * record what the plants were last saved under: opening with other rules or
+ * saving a Garden that follows other rules rewrites them.
+ */
+public final class GardenFile implements Closeable {
+    private static final int MAGIC = 0x50474631; // "PGF1"
+    private static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+
+    private static final int STATE_BITS = 7;
+    private static final int GROUP_PLANTS = 8;
+    private static final int GROUP_BYTES = 7;
+    static final int PAGE_BYTES = Garden.PAGE_PLANTS / GROUP_PLANTS * GROUP_BYTES;
+    private static final int SEGMENT_PAGES = (1 << 30) / PAGE_BYTES;
+
+    private final FileChannel channel;
+    private PlantRules rules;
+    private final int size;
+    private final MappedByteBuffer[] segments;
+
+    private GardenFile(FileChannel channel, PlantRules rules, int size) {
+        this.channel = channel;
+        this.rules = rules;
+        this.size = size;
+        this.segments = new MappedByteBuffer[(pageCount() + SEGMENT_PAGES - 1) / SEGMENT_PAGES];
+    }
+
+    /**
+     * Create a file of seeds, replacing any existing file.
+     */
+    public static GardenFile create(Path path, PlantRules rules, int plants) throws IOException {
+        if (plants < 0) {
+            throw new IllegalArgumentException("Plant count must not be negative: " + plants);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = encodeHeader(rules, plants);
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            GardenFile file = new GardenFile(channel, rules, plants);
+            // Extend the file without writing the pages: unwritten bytes read back as seeds
+            channel.write(ByteBuffer.allocate(1), dataEnd(plants) - 1);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static GardenFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Not a garden file: " + path);
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not a version " + VERSION + " garden file: " + path);
+            }
+            int plants = header.getInt();
+            if (header.getInt() != Garden.PAGE_PLANTS) {
+                throw new IOException("Unsupported page size in " + path);
+            }
+            if (plants < 0) {
+                throw new IOException("Corrupt garden file: negative plant count " + plants + " in " + path);
+            }
+            long expected = dataEnd(plants);
+            if (channel.size() < expected) {
+                throw new IOException("Truncated garden file: " + path);
+            }
+            if (channel.size() > expected) {
+                throw new IOException("Corrupt garden file: " + path + " is longer than its "
+                        + plants + " plants need");
+            }
+            int[] thresholds = new int[PlantRules.GROWTH_STAGE_COUNT];
+            for (int stage = 0; stage < PlantRules.GROWTH_STAGE_COUNT - 1; stage++) {
+                thresholds[stage] = header.getInt();
+            }
+            thresholds[PlantRules.GROWTH_STAGE_COUNT - 1] = Integer.MAX_VALUE;
+            PlantRules rules = PlantRules.compile(thresholds, header.getInt(), header.getInt());
+
+            return new GardenFile(channel, rules, plants);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open a file, creating it if it does not exist yet, and record
+     * {@code rules} as the rules in force.
+     * @throws IOException if the file holds a different number of plants
+     */
+    public static GardenFile openOrCreate(Path path, PlantRules rules, int plants) throws IOException {
+        if (!Files.exists(path)) {
+            return create(path, rules, plants);
+        }
+        GardenFile file = open(path);
+        try {
+            if (file.size() != plants) {
+                throw new IOException(path + " holds " + file.size() + " plants, not " + plants);
+            }
+            file.setRules(rules);
+            return file;
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return rules the plants were last saved under
+     */
+    public PlantRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Record new rules in the header, for example after a rules swap; the
+     * plant states are kept as they are.
+     */
+    public void setRules(PlantRules rules) throws IOException {
+        PlantRules saved = this.rules;
+        if (rules == saved || Arrays.equals(rules.getGrowthWaterThresholds(), saved.getGrowthWaterThresholds())
+                && rules.getSafeWaterAtFlowering() == saved.getSafeWaterAtFlowering()
+                && rules.getDeclineWaterThreshold() == saved.getDeclineWaterThreshold()) {
+            return;
+        }
+        ByteBuffer header = encodeHeader(rules, size);
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        this.rules = rules;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int pageCount() {
+        return (size + Garden.PAGE_PLANTS - 1) / Garden.PAGE_PLANTS;
+    }
+
+    /**
+     * Read one plant without loading its page into a Garden.
+     */
+    public int getState(int plant) throws IOException {
+        checkPlant(plant);
+        ByteBuffer page = page(plant / Garden.PAGE_PLANTS);
+        int group = plant % Garden.PAGE_PLANTS / GROUP_PLANTS;
+        int shift = plant % GROUP_PLANTS * STATE_BITS;
+        return checkState((int) (readGroup(page, group * GROUP_BYTES) >>> shift) & 0x7F);
+    }
+
+    /**
+     * Write one plant straight into the mapped file.
+     */
+    public void setState(int plant, int state) throws IOException {
+        checkPlant(plant);
+        checkState(state);
+        ByteBuffer page = page(plant / Garden.PAGE_PLANTS);
+        int offset = plant % Garden.PAGE_PLANTS / GROUP_PLANTS * GROUP_BYTES;
+        int shift = plant % GROUP_PLANTS * STATE_BITS;
+        long bits = readGroup(page, offset);
+        writeGroup(page, offset, bits & ~(0x7FL << shift) | (long) state << shift);
+    }
+
+    /**
+     * Load every plant into a new Garden.
+     */
+    public Garden load() throws IOException {
+        Garden garden = new Garden(rules, size);
+        load(garden, 0);
+        return garden;
+    }
+
+    /**
+     * Load a window of plants {@code [firstPlant, firstPlant + target.size())}
+     * into a Garden; only the pages covering the window are mapped and read.
+     * The target's dirty pages are cleared.
+     * @param firstPlant first plant of the window, a multiple of {@link Garden#PAGE_PLANTS}
+     */
+    public void load(Garden target, int firstPlant) throws IOException {
+        int firstPage = checkWindow(target, firstPlant);
+        byte[] states = target.states();
+        for (int page = 0; page < target.pageCount(); page++) {
+            int from = page * Garden.PAGE_PLANTS;
+            decodePage(page(firstPage + page), states, from, Math.min(states.length, from + Garden.PAGE_PLANTS));
+        }
+        target.clearDirty();
+    }
+
+    /**
+     * Write the pages of a window that changed since it was last loaded or
+     * saved, and record the Garden's rules in the header.
+     * @param firstPlant first plant of the window, a multiple of {@link Garden#PAGE_PLANTS}
+     * @return number of pages written
+     */
+    public int save(Garden source, int firstPlant) throws IOException {
+        int firstPage = checkWindow(source, firstPlant);
+        setRules(source.getRules());
+        byte[] states = source.states();
+        int written = 0;
+        for (int page = source.nextDirtyPage(0); page >= 0; page = source.nextDirtyPage(page + 1)) {
+            int from = page * Garden.PAGE_PLANTS;
+            encodePage(states, from, Math.min(states.length, from + Garden.PAGE_PLANTS), page(firstPage + page));
+            written++;
+        }
+        source.clearDirty();
+        return written;
+    }
+
+    /**
+     * Write every page of a window, whether it changed or not.
+     */
+    public int saveAll(Garden source, int firstPlant) throws IOException {
+        source.markDirty(0, source.size());
+        return save(source, firstPlant);
+    }
+
+    /**
+     * Force mapped pages to the storage device.
+     */
+    public void force() {
+        for (MappedByteBuffer segment : segments) {
+            if (segment != null) {
+                segment.force();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            force();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static long dataEnd(int plants) {
+        int pages = (plants + Garden.PAGE_PLANTS - 1) / Garden.PAGE_PLANTS;
+        return HEADER_SIZE + (long) Math.max(1, pages) * PAGE_BYTES;
+    }
+
+    /**
+     * @return a buffer over one page, mapping its segment on first use
+     */
+    private ByteBuffer page(int page) throws IOException {
+        int index = page / SEGMENT_PAGES;
+        MappedByteBuffer segment = segments[index];
+        if (segment == null) {
+            int pages = Math.min(SEGMENT_PAGES, pageCount() - index * SEGMENT_PAGES);
+            long position = HEADER_SIZE + (long) index * SEGMENT_PAGES * PAGE_BYTES;
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) pages * PAGE_BYTES);
+            segments[index] = segment;
+        }
+        int offset = page % SEGMENT_PAGES * PAGE_BYTES;
+        return segment.slice(offset, PAGE_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private void decodePage(ByteBuffer page, byte[] states, int from, int to) throws IOException {
+        int offset = 0;
+        for (int plant = from; plant < to; plant += GROUP_PLANTS, offset += GROUP_BYTES) {
+            long bits = readGroup(page, offset);
+            int end = Math.min(to, plant + GROUP_PLANTS);
+            for (int i = plant; i < end; i++, bits >>>= STATE_BITS) {
+                states[i] = (byte) checkState((int) bits & 0x7F);
+            }
+        }
+    }
+
+    private static void encodePage(byte[] states, int from, int to, ByteBuffer page) {
+        int offset = 0;
+        for (int plant = from; plant < to; plant += GROUP_PLANTS, offset += GROUP_BYTES) {
+            long bits = 0;
+            int end = Math.min(to, plant + GROUP_PLANTS);
+            for (int i = end - 1; i >= plant; i--) {
+                bits = bits << STATE_BITS | states[i];
+            }
+            writeGroup(page, offset, bits);
+        }
+    }
+
+    private static long readGroup(ByteBuffer page, int offset) {
+        return (page.getInt(offset) & 0xFFFFFFFFL)
+                | (page.getShort(offset + 4) & 0xFFFFL) << 32
+                | (page.get(offset + 6) & 0xFFL) << 48;
+    }
+
+    private static void writeGroup(ByteBuffer page, int offset, long bits) {
+        page.putInt(offset, (int) bits);
+        page.putShort(offset + 4, (short) (bits >>> 32));
+        page.put(offset + 6, (byte) (bits >>> 48));
+    }
+
+    private int checkWindow(Garden garden, int firstPlant) {
+        if (firstPlant % Garden.PAGE_PLANTS != 0) {
+            throw new IllegalArgumentException("Window must start on a page boundary: " + firstPlant);
+        }
+        if (firstPlant < 0 || (long) firstPlant + garden.size() > size) {
+            throw new IndexOutOfBoundsException("Window [" + firstPlant + ", "
+                    + ((long) firstPlant + garden.size()) + ") outside 0.." + size);
+        }
+        return firstPlant / Garden.PAGE_PLANTS;
+    }
+
+    private void checkPlant(int plant) {
+        if (plant < 0 || plant >= size) {
+            throw new IndexOutOfBoundsException("Plant " + plant + " outside 0.." + size);
+        }
+    }
+
+    private static int checkState(int state) throws IOException {
+        if (state >= PlantRules.STATE_COUNT) {
+            throw new IOException("Corrupt garden file: invalid plant state " + state);
+        }
+        return state;
+    }
+
+    private static ByteBuffer encodeHeader(PlantRules rules, int plants) {
+        int[] thresholds = rules.getGrowthWaterThresholds();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putInt(plants).putInt(Garden.PAGE_PLANTS);
+        for (int stage = 0; stage < PlantRules.GROWTH_STAGE_COUNT - 1; stage++) {
+            header.putInt(thresholds[stage]);
+        }
+        header.putInt(rules.getSafeWaterAtFlowering()).putInt(rules.getDeclineWaterThreshold());
+        return header.position(HEADER_SIZE).flip();
+    }
+
+    /**
+     * Demo: save a large garden, water a few plants, save again incrementally
+     * and load a window back lazily.
+     * Usage: {@code GardenFile <file> [plants]}
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: GardenFile <file> [plants]");
+            System.exit(1);
+        }
+        Path path = Paths.get(args[0]);
+        int plants = args.length > 1 ? Integer.parseInt(args[1]) : 10_000_000;
+        PlantRules rules = PlantRules.GUI;
+        Garden garden = new Garden(rules, plants);
+        BatchSimulator.runParallel(garden, WateringSchedule.random(1L, 1), 8);
+
+        try (GardenFile file = create(path, rules, plants)) {
+            long start = System.nanoTime();
+            int pages = file.save(garden, 0);
+            System.out.printf("Full save: %,d pages (%,d bytes) in %.1f ms%n", pages,
+                    Files.size(path), (System.nanoTime() - start) / 1e6);
+
+            for (int plant = 0; plant < plants; plant += plants / 10 + 1) {
+                garden.waterPlant(plant, 1);
+            }
+            start = System.nanoTime();
+            pages = file.save(garden, 0);
+            System.out.printf("Incremental save: %,d pages in %.3f ms%n", pages, (System.nanoTime() - start) / 1e6);
+        }
+
+        try (GardenFile file = open(path)) {
+            long start = System.nanoTime();
+            Garden window = new Garden(file.getRules(), Math.min(plants, 64 * Garden.PAGE_PLANTS));
+            file.load(window, 0);
+            System.out.printf("Window load: %,d plants in %.3f ms%n", window.size(),
+                    (System.nanoTime() - start) / 1e6);
+
+            start = System.nanoTime();
+            Garden loaded = file.load();
+            System.out.printf("Full load: %,d plants in %.1f ms%n", loaded.size(), (System.nanoTime() - start) / 1e6);
+            if (!Arrays.equals(loaded.states(), garden.states())) {
+                throw new IllegalStateException("Loaded garden differs from the saved one");
+            }
+            System.out.println("Stage histogram: " + Arrays.toString(loaded.stageHistogram()));
+        }
+    }
+}
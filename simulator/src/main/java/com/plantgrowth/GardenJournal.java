@@ -0,0 +1,554 @@
+package com.plantgrowth;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only binary journal of every watering and reset applied to a Garden.
+ * Events are fixed-size records batched in a direct buffer and written through
+ * a FileChannel; periodic snapshots store the packed plant states together
+ * with the journal position they cover. Replay loads the latest snapshot and
+ * applies the remaining records from memory-mapped windows of the journal.
+ * A single plant is simply a garden of size one.
+ *
+ * Each batch is written with its length and a CRC-32C of its records, and is
+ * checked in full before any of it is applied. The log ends at the first
+ * batch that is incomplete, fails its checksum or holds a record that cannot
+ * be applied, so a torn write or a zero-filled or garbage tail left by a
+ * crash is dropped rather than failing the replay. Rule changes are recorded
+ * too, so a replay follows the rules in force at every step.
+ *
+ * Directory layout: {@code journal.bin} plus {@code snapshot-<position>.bin}.
+ */
+public final class GardenJournal implements Closeable {
+    static final String JOURNAL_FILE = "journal.bin";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private static final int JOURNAL_MAGIC = 0x50474A31; // "PGJ1"
+    private static final int SNAPSHOT_MAGIC = 0x50475331; // "PGS1"
+    private static final int VERSION = 2;
+    static final int HEADER_SIZE = 32;
+    private static final int SNAPSHOT_HEADER_SIZE = 40;
+    /** Length and CRC-32C of the records that follow. */
+    private static final int BATCH_HEADER_SIZE = 8;
+
+    private static final byte WATER = 1;
+    private static final byte RESET = 2;
+    private static final byte WATER_RANGE = 3;
+    private static final byte RESET_RANGE = 4;
+    private static final byte RULES = 5;
+    private static final int RULES_LENGTH = 1 + 4 * (PlantRules.GROWTH_STAGE_COUNT + 1);
+
+    private static final int BATCH_SIZE = 1 << 16;
+    private static final long MAX_MAPPED_WINDOW = 1L << 28;
+    private static final int SNAPSHOTS_KEPT = 2;
+
+    private final Path directory;
+    private final Garden garden;
+    private final FileChannel channel;
+    private final ByteBuffer batch = ByteBuffer.allocateDirect(BATCH_SIZE).position(BATCH_HEADER_SIZE);
+    private final CRC32C checksum = new CRC32C();
+    private final long snapshotInterval;
+    private long eventsSinceSnapshot = 0;
+
+    private GardenJournal(Path directory, Garden garden, FileChannel channel, long snapshotInterval) {
+        this.directory = directory;
+        this.garden = garden;
+        this.channel = channel;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Start a new journal for a garden, replacing any journal in the directory.
+     * @param snapshotInterval events between automatic snapshots, or 0 for none
+     */
+    public static GardenJournal create(Path directory, Garden garden, long snapshotInterval) throws IOException {
+        Files.createDirectories(directory);
+        for (Path snapshot : listSnapshots(directory)) {
+            Files.delete(snapshot);
+        }
+        FileChannel channel = FileChannel.open(directory.resolve(JOURNAL_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.READ);
+        ByteBuffer header = encodeHeader(garden);
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        GardenJournal journal = new GardenJournal(directory, garden, channel, snapshotInterval);
+        journal.snapshot();
+        return journal;
+    }
+
+    /**
+     * Reopen an existing journal: replay it, drop any torn or corrupt tail and
+     * continue appending.
+     */
+    public static GardenJournal open(Path directory, long snapshotInterval) throws IOException {
+        Replay replay = replay(directory);
+        FileChannel channel = FileChannel.open(directory.resolve(JOURNAL_FILE),
+                StandardOpenOption.WRITE, StandardOpenOption.READ);
+        channel.truncate(replay.endPosition);
+        channel.position(replay.endPosition);
+        // Snapshots past a dropped tail would be taken up again once the journal grows back over them
+        Path end = snapshotPath(directory, replay.endPosition);
+        for (Path snapshot : listSnapshots(directory)) {
+            if (snapshot.compareTo(end) > 0) {
+                Files.delete(snapshot);
+            }
+        }
+        return new GardenJournal(directory, replay.garden, channel, snapshotInterval);
+    }
+
+    public Garden getGarden() {
+        return garden;
+    }
+
+    public void water(int plant, int times) throws IOException {
+        garden.waterPlant(plant, times);
+        ensureCapacity(9);
+        batch.put(WATER).putInt(plant).putInt(times);
+        recorded();
+    }
+
+    public void reset(int plant) throws IOException {
+        garden.reset(plant, plant + 1);
+        ensureCapacity(5);
+        batch.put(RESET).putInt(plant);
+        recorded();
+    }
+
+    public void water(int from, int to, int times) throws IOException {
+        garden.water(from, to, times);
+        ensureCapacity(13);
+        batch.put(WATER_RANGE).putInt(from).putInt(to).putInt(times);
+        recorded();
+    }
+
+    public void reset(int from, int to) throws IOException {
+        garden.reset(from, to);
+        ensureCapacity(9);
+        batch.put(RESET_RANGE).putInt(from).putInt(to);
+        recorded();
+    }
+
+    /**
+     * Switch the garden to new rules; later events replay under them.
+     */
+    public void setRules(PlantRules rules) throws IOException {
+        garden.setRules(rules);
+        ensureCapacity(RULES_LENGTH);
+        batch.put(RULES);
+        putRules(batch, rules);
+        recorded();
+    }
+
+    /**
+     * Write buffered events to the journal file as one checksummed batch.
+     */
+    public void flush() throws IOException {
+        int length = batch.position() - BATCH_HEADER_SIZE;
+        if (length == 0) {
+            return;
+        }
+        checksum.reset();
+        checksum.update(batch.flip().position(BATCH_HEADER_SIZE));
+        batch.putInt(0, length).putInt(4, (int) checksum.getValue()).position(0);
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        batch.clear().position(BATCH_HEADER_SIZE);
+    }
+
+    /**
+     * Flush and force the journal, then write a snapshot of the garden
+     * covering every event so far. Older snapshots beyond the last two are removed.
+     */
+    public void snapshot() throws IOException {
+        flush();
+        channel.force(false);
+        long position = channel.position();
+
+        Path target = snapshotPath(directory, position);
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_HEADER_SIZE);
+            header.putInt(SNAPSHOT_MAGIC).putInt(VERSION).putLong(position).putInt(garden.size());
+            putRules(header, garden.getRules()).flip();
+            ByteBuffer states = ByteBuffer.wrap(garden.states());
+            while (header.hasRemaining() || states.hasRemaining()) {
+                out.write(new ByteBuffer[] {header, states});
+            }
+            out.force(false);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        eventsSinceSnapshot = 0;
+
+        List<Path> snapshots = listSnapshots(directory);
+        for (int i = 0; i < snapshots.size() - SNAPSHOTS_KEPT; i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (batch.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void recorded() throws IOException {
+        if (snapshotInterval > 0 && ++eventsSinceSnapshot >= snapshotInterval) {
+            snapshot();
+        }
+    }
+
+    /** Result of replaying a journal directory. */
+    public static final class Replay {
+        private final Garden garden;
+        private final long events;
+        private final long endPosition;
+
+        private Replay(Garden garden, long events, long endPosition) {
+            this.garden = garden;
+            this.events = events;
+            this.endPosition = endPosition;
+        }
+
+        public Garden getGarden() {
+            return garden;
+        }
+
+        /**
+         * @return events applied after the snapshot the replay started from
+         */
+        public long getEvents() {
+            return events;
+        }
+
+        /**
+         * @return journal offset just past the last intact batch
+         */
+        public long getEndPosition() {
+            return endPosition;
+        }
+    }
+
+    /**
+     * Rebuild a garden from the latest snapshot plus the journal tail.
+     */
+    public static Replay replay(Path directory) throws IOException {
+        return replay(directory, true);
+    }
+
+    private static Replay replay(Path directory, boolean useSnapshots) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve(JOURNAL_FILE), StandardOpenOption.READ)) {
+            long size = channel.size();
+            Garden garden = new Garden(decodeHeader(channel), readPlantCount(channel));
+
+            long position = HEADER_SIZE;
+            List<Path> snapshots = useSnapshots ? listSnapshots(directory) : List.of();
+            for (int i = snapshots.size() - 1; i >= 0; i--) {
+                long covered = loadSnapshot(snapshots.get(i), garden, size);
+                if (covered >= 0) {
+                    position = covered;
+                    break;
+                }
+            }
+
+            long events = 0;
+            CRC32C checksum = new CRC32C();
+            while (position < size) {
+                long window = Math.min(size - position, MAX_MAPPED_WINDOW);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, window);
+                events += applyBatches(buffer, garden, checksum);
+                if (buffer.position() == 0) {
+                    // No intact batch left: the end of the log, or a torn or corrupt tail
+                    break;
+                }
+                position += buffer.position();
+            }
+            return new Replay(garden, events, position);
+        }
+    }
+
+    /**
+     * Apply every intact batch in the buffer, leaving its position after the last one.
+     * @return number of records applied
+     */
+    private static long applyBatches(ByteBuffer buffer, Garden garden, CRC32C checksum) {
+        long events = 0;
+        while (buffer.remaining() >= BATCH_HEADER_SIZE) {
+            int start = buffer.position();
+            int length = buffer.getInt(start);
+            if (length <= 0 || length > BATCH_SIZE - BATCH_HEADER_SIZE
+                    || buffer.remaining() - BATCH_HEADER_SIZE < length) {
+                break;
+            }
+            ByteBuffer records = buffer.slice(start + BATCH_HEADER_SIZE, length);
+            checksum.reset();
+            checksum.update(records);
+            if ((int) checksum.getValue() != buffer.getInt(start + 4) || !isApplicable(records.flip(), garden)) {
+                break;
+            }
+            events += applyRecords(records.flip(), garden);
+            buffer.position(start + BATCH_HEADER_SIZE + length);
+        }
+        return events;
+    }
+
+    /**
+     * @return whether every record in the batch is complete, of a known type and in range
+     */
+    private static boolean isApplicable(ByteBuffer records, Garden garden) {
+        int size = garden.size();
+        while (records.hasRemaining()) {
+            byte type = records.get();
+            int length = recordLength(type);
+            if (length < 0 || records.remaining() < length - 1) {
+                return false;
+            }
+            boolean valid = switch (type) {
+                case WATER -> isPlant(records.getInt(), size) && records.getInt() >= 0;
+                case RESET -> isPlant(records.getInt(), size);
+                case WATER_RANGE -> isRange(records.getInt(), records.getInt(), size) && records.getInt() >= 0;
+                case RESET_RANGE -> isRange(records.getInt(), records.getInt(), size);
+                default -> getRules(records) != null;
+            };
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPlant(int plant, int size) {
+        return plant >= 0 && plant < size;
+    }
+
+    private static boolean isRange(int from, int to, int size) {
+        return from >= 0 && from <= to && to <= size;
+    }
+
+    /**
+     * Apply every record of a batch already checked by {@link #isApplicable}.
+     */
+    private static long applyRecords(ByteBuffer records, Garden garden) {
+        long events = 0;
+        while (records.hasRemaining()) {
+            switch (records.get()) {
+                case WATER -> garden.waterPlant(records.getInt(), records.getInt());
+                case RESET -> {
+                    int plant = records.getInt();
+                    garden.reset(plant, plant + 1);
+                }
+                case WATER_RANGE -> garden.water(records.getInt(), records.getInt(), records.getInt());
+                case RESET_RANGE -> garden.reset(records.getInt(), records.getInt());
+                default -> garden.setRules(getRules(records));
+            }
+            events++;
+        }
+        return events;
+    }
+
+    /**
+     * @return length of a record including its type byte, or -1 for an unknown type
+     */
+    private static int recordLength(byte type) {
+        return switch (type) {
+            case WATER -> 9;
+            case RESET -> 5;
+            case WATER_RANGE -> 13;
+            case RESET_RANGE -> 9;
+            case RULES -> RULES_LENGTH;
+            default -> -1;
+        };
+    }
+
+    private static ByteBuffer putRules(ByteBuffer buffer, PlantRules rules) {
+        int[] thresholds = rules.getGrowthWaterThresholds();
+        for (int stage = 0; stage < PlantRules.GROWTH_STAGE_COUNT - 1; stage++) {
+            buffer.putInt(thresholds[stage]);
+        }
+        return buffer.putInt(rules.getSafeWaterAtFlowering()).putInt(rules.getDeclineWaterThreshold());
+    }
+
+    /**
+     * @return rules stored by {@link #putRules}, or null if they are out of range
+     */
+    private static PlantRules getRules(ByteBuffer buffer) {
+        int[] thresholds = new int[PlantRules.GROWTH_STAGE_COUNT];
+        for (int stage = 0; stage < PlantRules.GROWTH_STAGE_COUNT - 1; stage++) {
+            thresholds[stage] = buffer.getInt();
+        }
+        thresholds[PlantRules.GROWTH_STAGE_COUNT - 1] = Integer.MAX_VALUE;
+        int safeWaterAtFlowering = buffer.getInt();
+        int declineWaterThreshold = buffer.getInt();
+        try {
+            return PlantRules.compile(thresholds, safeWaterAtFlowering, declineWaterThreshold);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static ByteBuffer encodeHeader(Garden garden) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(JOURNAL_MAGIC).putInt(VERSION).putInt(garden.size());
+        return putRules(header, garden.getRules()).flip();
+    }
+
+    private static PlantRules decodeHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+        if (header.getInt() != JOURNAL_MAGIC || header.getInt() != VERSION) {
+            throw new IOException("Not a version " + VERSION + " garden journal");
+        }
+        header.getInt();
+        PlantRules rules = getRules(header);
+        if (rules == null) {
+            throw new IOException("Corrupt garden journal header");
+        }
+        return rules;
+    }
+
+    private static int readPlantCount(FileChannel channel) throws IOException {
+        return readFully(channel, 8, 4).getInt();
+    }
+
+    /**
+     * @return journal position covered by the snapshot, or -1 if it is unusable
+     */
+    private static long loadSnapshot(Path snapshot, Garden garden, long journalSize) throws IOException {
+        try (FileChannel in = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            if (in.size() != SNAPSHOT_HEADER_SIZE + (long) garden.size()) {
+                return -1;
+            }
+            ByteBuffer header = readFully(in, 0, SNAPSHOT_HEADER_SIZE);
+            if (header.getInt() != SNAPSHOT_MAGIC || header.getInt() != VERSION) {
+                return -1;
+            }
+            long position = header.getLong();
+            if (position < HEADER_SIZE || position > journalSize || header.getInt() != garden.size()) {
+                return -1;
+            }
+            PlantRules rules = getRules(header);
+            if (rules == null) {
+                return -1;
+            }
+            ByteBuffer states = ByteBuffer.wrap(garden.states());
+            long offset = SNAPSHOT_HEADER_SIZE;
+            while (states.hasRemaining()) {
+                int read = in.read(states, offset);
+                if (read < 0) {
+                    return -1;
+                }
+                offset += read;
+            }
+            garden.setRules(rules);
+            garden.markDirty(0, garden.size());
+            return position;
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * @return snapshot files ordered by the journal position they cover
+     */
+    private static Path snapshotPath(Path directory, long position) {
+        return directory.resolve(String.format("%s%016x%s", SNAPSHOT_PREFIX, position, SNAPSHOT_SUFFIX));
+    }
+
+    private static List<Path> listSnapshots(Path directory) throws IOException {
+        List<Path> snapshots = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SNAPSHOT_PREFIX + "*" + SNAPSHOT_SUFFIX)) {
+            stream.forEach(snapshots::add);
+        }
+        snapshots.sort(null);
+        return snapshots;
+    }
+
+    /**
+     * Usage: {@code GardenJournal replay <dir>} rebuilds and summarises a garden;
+     * {@code GardenJournal demo <dir> [plants] [events]} records random events
+     * and then times a full replay.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: GardenJournal replay <dir> | demo <dir> [plants] [events]");
+            System.exit(1);
+        }
+        Path directory = Paths.get(args[1]);
+        if (args[0].equals("demo")) {
+            int plants = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+            long events = args.length > 3 ? Long.parseLong(args[3]) : 50_000_000L;
+            PlantRules rules = PlantRules.GUI;
+            Random random = new Random(1);
+            long start = System.nanoTime();
+            try (GardenJournal journal = create(directory, new Garden(rules, plants), events / 4)) {
+                for (long i = 0; i < events; i++) {
+                    int plant = random.nextInt(plants);
+                    if (random.nextInt(16) == 0) {
+                        journal.reset(plant);
+                    } else {
+                        journal.water(plant, 1);
+                    }
+                }
+                journal.flush();
+                // Leave a tail after the last snapshot so replay exercises both paths
+                for (long i = 0; i < events / 8; i++) {
+                    journal.water(random.nextInt(plants), 1);
+                }
+            }
+            System.out.printf("Recorded %,d events in %.1f ms%n", events + events / 8,
+                    (System.nanoTime() - start) / 1e6);
+        }
+
+        Replay replay = timedReplay("from latest snapshot", directory, true);
+        Replay full = timedReplay("full journal", directory, false);
+        if (!Arrays.equals(replay.getGarden().states(), full.getGarden().states())) {
+            throw new IllegalStateException("Snapshot replay and full replay disagree");
+        }
+        System.out.println("Stage histogram: " + Arrays.toString(replay.getGarden().stageHistogram()));
+    }
+
+    private static Replay timedReplay(String label, Path directory, boolean useSnapshots) throws IOException {
+        long start = System.nanoTime();
+        Replay replay = replay(directory, useSnapshots);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Replay %s: %,d events in %.1f ms (%,.0f events/min)%n",
+                label, replay.getEvents(), seconds * 1e3, replay.getEvents() / seconds * 60);
+        return replay;
+    }
+}
@@ -0,0 +1,323 @@
+package com.plantgrowth;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import javax.swing.*;
+
+/**
+ * GardenPanel shows every plant of a Garden as a tile in a scrollable grid.
+ * Only tiles inside the clip are drawn, and the level of detail follows the
+ * zoom: full plant sprites for large tiles, one coloured glyph per plant for
+ * medium tiles, and a single pixel per plant scaled up for tiny tiles.
+ * Ctrl + mouse wheel zooms around the pointer.
+ */
+public class GardenPanel extends JPanel implements Scrollable {
+    private static final int MIN_TILE_SIZE = 2;
+    private static final int MAX_TILE_SIZE = 160;
+    private static final int GLYPH_TILE_SIZE = 8;
+    private static final int SPRITE_TILE_SIZE = 40;
+    // Part of the PlantPanel drawing that is copied into a sprite tile
+    private static final int SOURCE_WIDTH = 240;
+    private static final int SOURCE_HEIGHT = PlantRenderer.REFERENCE_HEIGHT;
+
+    private final Garden garden;
+    private final int columns;
+    private final int rows;
+    private int tileSize;
+
+    private final Image[] tileSprites = new Image[PlantRules.TOTAL_STAGE_COUNT];
+    private int spriteTileSize;
+    private double spriteScale;
+    private BufferedImage pixelBuffer;
+
+    /**
+     * @param garden plants to display
+     * @param columns number of plants per row
+     * @param tileSize initial tile edge length in pixels
+     */
+    public GardenPanel(Garden garden, int columns, int tileSize) {
+        if (columns <= 0) {
+            throw new IllegalArgumentException("Columns must be positive: " + columns);
+        }
+        this.garden = garden;
+        this.columns = columns;
+        this.rows = (garden.size() + columns - 1) / columns;
+        this.tileSize = clampTileSize(tileSize);
+
+        setBackground(new Color(240, 248, 255)); // Light blue background
+        setOpaque(true);
+
+        addMouseWheelListener(e -> {
+            if (!e.isControlDown()) {
+                // Let the enclosing scroll pane scroll
+                getParent().dispatchEvent(SwingUtilities.convertMouseEvent(this, e, getParent()));
+                return;
+            }
+            double factor = e.getPreciseWheelRotation() < 0 ? 1.25 : 0.8;
+            zoom(factor, e.getPoint());
+        });
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public void setTileSize(int tileSize) {
+        int clamped = clampTileSize(tileSize);
+        if (clamped != this.tileSize) {
+            this.tileSize = clamped;
+            revalidate();
+            repaint();
+        }
+    }
+
+    /**
+     * Repaint the tiles of plants {@code [from, to)} after the model changed.
+     */
+    public void plantsChanged(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int firstRow = from / columns;
+        int lastRow = (to - 1) / columns;
+        repaint(0, firstRow * tileSize, columns * tileSize, (lastRow - firstRow + 1) * tileSize);
+    }
+
+    /**
+     * @return index of the plant under the point, or -1
+     */
+    public int plantAt(Point point) {
+        int column = point.x / tileSize;
+        int row = point.y / tileSize;
+        int index = row * columns + column;
+        return column < columns && point.x >= 0 && point.y >= 0 && index < garden.size() ? index : -1;
+    }
+
+    private void zoom(double factor, Point anchor) {
+        int oldTileSize = tileSize;
+        setTileSize((int) Math.round(tileSize * factor));
+        if (tileSize == oldTileSize || !(getParent() instanceof JViewport)) {
+            return;
+        }
+        // Keep the plant under the pointer where it was
+        JViewport viewport = (JViewport) getParent();
+        Point view = viewport.getViewPosition();
+        double scale = (double) tileSize / oldTileSize;
+        int x = (int) Math.round(anchor.x * scale - (anchor.x - view.x));
+        int y = (int) Math.round(anchor.y * scale - (anchor.y - view.y));
+        viewport.validate();
+        viewport.setViewPosition(new Point(Math.max(0, x), Math.max(0, y)));
+    }
+
+    private static int clampTileSize(int tileSize) {
+        return Math.max(MIN_TILE_SIZE, Math.min(MAX_TILE_SIZE, tileSize));
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(columns * tileSize, rows * tileSize);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+
+        // Cull to the tiles that intersect the clip
+        int firstColumn = Math.max(0, clip.x / tileSize);
+        int lastColumn = Math.min(columns - 1, (clip.x + clip.width - 1) / tileSize);
+        int firstRow = Math.max(0, clip.y / tileSize);
+        int lastRow = Math.min(rows - 1, (clip.y + clip.height - 1) / tileSize);
+        if (firstColumn > lastColumn || firstRow > lastRow) {
+            return;
+        }
+
+        Graphics2D g2 = (Graphics2D) g.create();
+        if (tileSize < GLYPH_TILE_SIZE) {
+            paintPixels(g2, firstColumn, lastColumn, firstRow, lastRow);
+        } else if (tileSize < SPRITE_TILE_SIZE) {
+            paintGlyphs(g2, firstColumn, lastColumn, firstRow, lastRow);
+        } else {
+            paintSprites(g2, firstColumn, lastColumn, firstRow, lastRow);
+        }
+        g2.dispose();
+    }
+
+    private void paintPixels(Graphics2D g2, int firstColumn, int lastColumn, int firstRow, int lastRow) {
+        int width = lastColumn - firstColumn + 1;
+        int height = lastRow - firstRow + 1;
+        if (pixelBuffer == null || pixelBuffer.getWidth() < width || pixelBuffer.getHeight() < height) {
+            pixelBuffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+
+        int[] stageRgb = new int[PlantRules.TOTAL_STAGE_COUNT];
+        for (int stage = 0; stage < stageRgb.length; stage++) {
+            stageRgb[stage] = PlantRenderer.stageColor(stage).getRGB();
+        }
+        int background = getBackground().getRGB();
+        int[] pixels = ((DataBufferInt) pixelBuffer.getRaster().getDataBuffer()).getData();
+        int stride = pixelBuffer.getWidth();
+        int size = garden.size();
+        for (int row = firstRow; row <= lastRow; row++) {
+            int offset = (row - firstRow) * stride;
+            int index = row * columns + firstColumn;
+            for (int column = 0; column < width; column++, index++) {
+                pixels[offset + column] = index < size ? stageRgb[garden.getStage(index)] : background;
+            }
+        }
+
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        int x = firstColumn * tileSize;
+        int y = firstRow * tileSize;
+        g2.drawImage(pixelBuffer, x, y, x + width * tileSize, y + height * tileSize, 0, 0, width, height, null);
+    }
+
+    private void paintGlyphs(Graphics2D g2, int firstColumn, int lastColumn, int firstRow, int lastRow) {
+        int inset = Math.max(1, tileSize / 8);
+        int glyph = tileSize - 2 * inset;
+        int size = garden.size();
+        // Draw one stage at a time so the colour is set only seven times per paint
+        for (int stage = 0; stage < PlantRules.TOTAL_STAGE_COUNT; stage++) {
+            g2.setColor(PlantRenderer.stageColor(stage));
+            for (int row = firstRow; row <= lastRow; row++) {
+                int index = row * columns + firstColumn;
+                for (int column = firstColumn; column <= lastColumn && index < size; column++, index++) {
+                    if (garden.getStage(index) == stage) {
+                        g2.fillRect(column * tileSize + inset, row * tileSize + inset, glyph, glyph);
+                    }
+                }
+            }
+        }
+    }
+
+    private void paintSprites(Graphics2D g2, int firstColumn, int lastColumn, int firstRow, int lastRow) {
+        updateTileSprites(g2.getTransform());
+        int size = garden.size();
+        for (int row = firstRow; row <= lastRow; row++) {
+            int index = row * columns + firstColumn;
+            for (int column = firstColumn; column <= lastColumn && index < size; column++, index++) {
+                Image sprite = tileSprite(garden.getStage(index));
+                g2.drawImage(sprite, column * tileSize, row * tileSize, tileSize, tileSize, null);
+            }
+        }
+    }
+
+    private void updateTileSprites(AffineTransform transform) {
+        double scale = transform.getScaleX();
+        if (spriteTileSize != tileSize || spriteScale != scale) {
+            for (int stage = 0; stage < tileSprites.length; stage++) {
+                if (tileSprites[stage] != null) {
+                    tileSprites[stage].flush();
+                    tileSprites[stage] = null;
+                }
+            }
+            spriteTileSize = tileSize;
+            spriteScale = scale;
+        }
+    }
+
+    private Image tileSprite(int stage) {
+        Image sprite = tileSprites[stage];
+        if (sprite == null) {
+            int pixels = Math.max(1, (int) Math.ceil(tileSize * spriteScale));
+            BufferedImage image = new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g2 = image.createGraphics();
+            g2.setColor(getBackground());
+            g2.fillRect(0, 0, pixels, pixels);
+            PlantRenderer.applyQualityHints(g2);
+            // Fit the central part of a full-size plant into the tile
+            double scale = (double) pixels / SOURCE_HEIGHT;
+            g2.translate((pixels - SOURCE_WIDTH * scale) / 2, 0);
+            g2.scale(scale, scale);
+            g2.translate(-(PlantRenderer.REFERENCE_WIDTH - SOURCE_WIDTH) / 2.0, 0);
+            PlantRenderer.paintPlant(g2, PlantRenderer.REFERENCE_WIDTH, SOURCE_HEIGHT, stage, 1.0f);
+            g2.dispose();
+            sprite = image;
+            tileSprites[stage] = sprite;
+        }
+        return sprite;
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return new Dimension(Math.min(800, columns * tileSize), Math.min(600, rows * tileSize));
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return tileSize;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int extent = orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+        return Math.max(tileSize, extent - tileSize);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+
+    /**
+     * Demo: a garden of 100,000 plants after a random watering batch, with a
+     * Water button that waters every plant once. With {@code --timed} the
+     * button pours water into the soil instead and a {@link GrowthClock}
+     * absorbs and evaporates it over time, driven by one Swing timer.
+     * Usage: {@code GardenPanel [plants] [--timed]}
+     */
+    public static void main(String[] args) {
+        int plants = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        boolean timed = args.length > 1 && args[1].equals("--timed");
+        Garden garden = new Garden(PlantRules.GUI, plants);
+        BatchSimulator.runParallel(garden, WateringSchedule.random(1L, 1), 8);
+        GrowthClock clock = timed ? new GrowthClock(garden, 10, 100) : null;
+
+        SwingUtilities.invokeLater(() -> {
+            int columns = (int) Math.ceil(Math.sqrt(plants));
+            GardenPanel gardenPanel = new GardenPanel(garden, columns, 12);
+
+            JButton waterButton = new JButton("Water all");
+            waterButton.addActionListener(e -> {
+                if (clock != null) {
+                    clock.water(0, garden.size());
+                } else {
+                    garden.water(0, garden.size());
+                    gardenPanel.plantsChanged(0, garden.size());
+                }
+            });
+
+            if (clock != null) {
+                int[] changed = new int[2];
+                Timer ticker = new Timer(20, e -> {
+                    changed[0] = Integer.MAX_VALUE;
+                    changed[1] = -1;
+                    clock.advance(1, plant -> {
+                        changed[0] = Math.min(changed[0], plant);
+                        changed[1] = Math.max(changed[1], plant);
+                    });
+                    gardenPanel.plantsChanged(changed[0], changed[1] + 1);
+                });
+                ticker.start();
+            }
+
+            JFrame frame = new JFrame("Garden - " + plants + " plants (Ctrl + wheel to zoom)");
+            frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+            frame.add(new JScrollPane(gardenPanel), BorderLayout.CENTER);
+            frame.add(waterButton, BorderLayout.SOUTH);
+            frame.pack();
+            frame.setLocationRelativeTo(null);
+            frame.setVisible(true);
+        });
+    }
+}
@@ -0,0 +1,190 @@
+package com.plantgrowth;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+/**
+ * Clock-driven mode for a Garden. Watering a plant pours water into its soil;
+ * the plant then absorbs one unit every {@code absorbTicks} ticks, and each
+ * absorbed unit is one watering under the garden's rules, so stages change on
+ * ticks rather than on the watering itself. Once the soil is dry, water held
+ * at the current stage evaporates one unit every {@code evaporateTicks}
+ * ticks, which is what makes waiting before watering again safer.
+ *
+ * Every plant has at most one pending timer (absorb or evaporate) and all of
+ * them live in a single {@link TimingWheel}, so scheduling, rescheduling and
+ * expiry cost O(1) per plant however many are pending. Plants of a clocked
+ * garden should only be watered and reset through the clock.
+ */
+public final class GrowthClock {
+    public static final int MAX_SOIL_WATER = 127;
+
+    private final Garden garden;
+    private final PlantRules rules;
+    private final TimingWheel wheel;
+    private final byte[] soil;
+    private final int absorbTicks;
+    private final int evaporateTicks;
+    private final IntConsumer expiry = this::expired;
+    private IntConsumer listener;
+    /** Absorptions, deaths and stage entries of the current advance, for {@link SimulatorMetrics}. */
+    private long absorbed;
+    private long died;
+    private final long[] entered = new long[PlantRules.TOTAL_STAGE_COUNT];
+
+    public GrowthClock(Garden garden, int absorbTicks, int evaporateTicks) {
+        if (absorbTicks <= 0 || evaporateTicks <= 0) {
+            throw new IllegalArgumentException("Absorb and evaporate intervals must be positive");
+        }
+        this.garden = garden;
+        this.rules = garden.getRules();
+        this.wheel = new TimingWheel(garden.size());
+        this.soil = new byte[garden.size()];
+        this.absorbTicks = absorbTicks;
+        this.evaporateTicks = evaporateTicks;
+    }
+
+    public Garden getGarden() {
+        return garden;
+    }
+
+    public long now() {
+        return wheel.now();
+    }
+
+    /**
+     * @return number of plants with water still to absorb or evaporate
+     */
+    public int pendingTimers() {
+        return wheel.size();
+    }
+
+    public int getSoilWater(int plant) {
+        return soil[plant];
+    }
+
+    /**
+     * Pour one unit of water into a plant's soil. Absorption starts
+     * {@code absorbTicks} from now unless the plant is already absorbing.
+     */
+    public void water(int plant) {
+        int water = soil[plant];
+        if (water < MAX_SOIL_WATER) {
+            soil[plant] = (byte) (water + 1);
+        }
+        if (water == 0) {
+            // Replaces a pending evaporation
+            wheel.schedule(plant, wheel.now() + absorbTicks);
+        }
+    }
+
+    public void water(int from, int to) {
+        for (int plant = from; plant < to; plant++) {
+            water(plant);
+        }
+    }
+
+    /**
+     * Return a plant to a seed with dry soil and no pending timer.
+     */
+    public void reset(int plant) {
+        garden.reset(plant, plant + 1);
+        soil[plant] = 0;
+        wheel.cancel(plant);
+    }
+
+    /**
+     * Advance the clock, absorbing and evaporating water whose time has come.
+     * @param changed called with the index of every plant whose state changed, or null
+     * @return number of plant state changes
+     */
+    public long advance(long ticks, IntConsumer changed) {
+        listener = changed;
+        try {
+            return wheel.advance(ticks, expiry);
+        } finally {
+            listener = null;
+            if (SimulatorMetrics.ENABLED) {
+                SimulatorMetrics.INSTANCE.recordBulk(absorbed, died, entered);
+                absorbed = 0;
+                died = 0;
+                Arrays.fill(entered, 0L);
+            }
+        }
+    }
+
+    private void expired(int plant) {
+        int state = garden.getState(plant);
+        int water = soil[plant];
+        if (water > 0) {
+            soil[plant] = (byte) --water;
+            int previous = state;
+            state = rules.next(state);
+            if (SimulatorMetrics.ENABLED) {
+                countAbsorption(previous, state);
+            }
+        } else if (canEvaporate(state)) {
+            state = PlantRules.pack(PlantRules.stageOf(state), PlantRules.waterOf(state) - 1);
+        } else {
+            // Changed outside the clock since the evaporation was scheduled: nothing left to evaporate
+            return;
+        }
+        garden.setState(plant, state);
+        if (listener != null) {
+            listener.accept(plant);
+        }
+
+        long now = wheel.now();
+        if (water > 0) {
+            wheel.schedule(plant, now + absorbTicks);
+        } else if (canEvaporate(state)) {
+            wheel.schedule(plant, now + evaporateTicks);
+        }
+    }
+
+    private void countAbsorption(int previous, int state) {
+        absorbed++;
+        int stage = PlantRules.stageOf(state);
+        if (stage != PlantRules.stageOf(previous)) {
+            entered[stage]++;
+            if (stage == PlantRules.DEAD_STAGE) {
+                died++;
+            }
+        }
+    }
+
+    private static boolean canEvaporate(int state) {
+        return PlantRules.waterOf(state) > 0 && PlantRules.stageOf(state) != PlantRules.DEAD_STAGE;
+    }
+
+    /**
+     * Load test: water random plants of a large garden while the clock runs
+     * and report how many timers were handled per second.
+     * Usage: {@code GrowthClock [plants] [ticks] [waterings per tick]}
+     */
+    public static void main(String[] args) {
+        int plants = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int wateringsPerTick = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+        PlantRules rules = PlantRules.GUI;
+        GrowthClock clock = new GrowthClock(new Garden(rules, plants), 10, 600);
+
+        Random random = new Random(1);
+        long start = System.nanoTime();
+        clock.water(0, plants);
+        long changes = 0;
+        long peak = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            for (int i = 0; i < wateringsPerTick; i++) {
+                clock.water(random.nextInt(plants));
+            }
+            changes += clock.advance(1, null);
+            peak = Math.max(peak, clock.pendingTimers());
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%,d ticks, %,d plant changes, peak %,d pending timers in %.1f ms (%,.0f changes/s)%n",
+                ticks, changes, peak, seconds * 1e3, changes / seconds);
+        System.out.println("Stage histogram: " + Arrays.toString(clock.getGarden().stageHistogram()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.plantgrowth;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Holder for the rules in force, shared by every engine that should follow
+ * rule changes. A swap is one volatile write of a fully compiled
+ * {@link PlantRules}, so engines pick up new rules on their next watering
+ * without locks or pauses, and never see a half-built table. Packed plant
+ * states mean the same thing under any rules, so running plants carry on
+ * from their current stage and water.
+ */
+public final class LiveRules {
+    private volatile PlantRules current;
+
+    public LiveRules(PlantRules initial) {
+        this.current = initial;
+    }
+
+    public PlantRules get() {
+        return current;
+    }
+
+    public void set(PlantRules rules) {
+        current = rules;
+    }
+
+    /**
+     * Load rules from a file and reload them whenever it changes. A reload
+     * that fails (for example while an editor is half-way through saving)
+     * keeps the previous rules and is reported on standard error.
+     */
+    public static LiveRules watch(Path file) throws IOException {
+        Path path = file.toAbsolutePath();
+        LiveRules live = new LiveRules(RulesFile.load(path));
+        WatchService watcher = FileSystems.getDefault().newWatchService();
+        path.getParent().register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+        Thread thread = new Thread(() -> live.reloadOnChange(watcher, path), "rules-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        return live;
+    }
+
+    private void reloadOnChange(WatchService watcher, Path path) {
+        try (watcher) {
+            while (true) {
+                WatchKey key = watcher.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= path.getFileName().equals(event.context());
+                }
+                key.reset();
+                if (changed) {
+                    try {
+                        set(RulesFile.load(path));
+                        System.err.println("Reloaded rules from " + path);
+                    } catch (IOException | IllegalArgumentException e) {
+                        System.err.println("Keeping previous rules: " + e.getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException | IOException e) {
+            // Stop watching
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.plantgrowth;
+
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import javax.swing.*;
+
+/**
+ * In-window replacement for modal message dialogs. Posting a notification
+ * only queues it and asks for a repaint, so the event thread never waits for
+ * the user. The queue holds at most {@link #CAPACITY} notifications: a
+ * repeat of the newest one bumps its count instead of taking a row, and a
+ * burst of different ones pushes out the oldest. Each notification fades
+ * after {@link #DISPLAY_MILLIS} without a repeat; clicking the bar clears it.
+ * Use only on the event dispatch thread.
+ */
+final class NotificationBar extends JComponent {
+    static final int CAPACITY = 3;
+    static final int DISPLAY_MILLIS = 4000;
+    private static final int ROW_HEIGHT = 24;
+    private static final int ROW_GAP = 3;
+    private static final int EXPIRY_CHECK_MILLIS = 250;
+
+    enum Kind {
+        INFO(new Color(225, 238, 255), new Color(30, 90, 170)),
+        WARNING(new Color(255, 236, 200), new Color(170, 90, 0));
+
+        private final Color fill;
+        private final Color edge;
+
+        Kind(Color fill, Color edge) {
+            this.fill = fill;
+            this.edge = edge;
+        }
+    }
+
+    private static final class Notice {
+        final String title;
+        final String message;
+        final Kind kind;
+        int count = 1;
+        long postedMillis;
+
+        Notice(String title, String message, Kind kind, long postedMillis) {
+            this.title = title;
+            this.message = message;
+            this.kind = kind;
+            this.postedMillis = postedMillis;
+        }
+
+        boolean sameAs(String otherTitle, String otherMessage) {
+            return title.equals(otherTitle) && message.equals(otherMessage);
+        }
+    }
+
+    private final ArrayDeque<Notice> notices = new ArrayDeque<>(CAPACITY);
+    private final Timer expiry = new Timer(EXPIRY_CHECK_MILLIS, e -> expire());
+    private final Font titleFont = new Font("Segoe UI", Font.BOLD, 12);
+    private final Font messageFont = new Font("Segoe UI", Font.PLAIN, 12);
+    /** Notifications pushed out by a burst since the bar was last empty. */
+    private int dropped;
+
+    NotificationBar(int width) {
+        Dimension size = new Dimension(width, CAPACITY * (ROW_HEIGHT + ROW_GAP));
+        setPreferredSize(size);
+        setMaximumSize(size);
+        setOpaque(false);
+        // Register for tooltips; the text comes from getToolTipText(MouseEvent)
+        setToolTipText("");
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                clear();
+            }
+        });
+    }
+
+    void post(String title, String message, Kind kind) {
+        long now = System.currentTimeMillis();
+        Notice newest = notices.peekLast();
+        if (newest != null && newest.sameAs(title, message)) {
+            newest.count++;
+            newest.postedMillis = now;
+        } else {
+            if (notices.size() == CAPACITY) {
+                notices.removeFirst();
+                dropped++;
+            }
+            notices.addLast(new Notice(title, message, kind, now));
+        }
+        if (!expiry.isRunning()) {
+            expiry.start();
+        }
+        repaint();
+    }
+
+    void clear() {
+        notices.clear();
+        dropped = 0;
+        expiry.stop();
+        repaint();
+    }
+
+    int getNoticeCount() {
+        return notices.size();
+    }
+
+    private void expire() {
+        long cutoff = System.currentTimeMillis() - DISPLAY_MILLIS;
+        boolean changed = false;
+        // Notices are queued in posting order, so the stale ones are at the head
+        while (!notices.isEmpty() && notices.peekFirst().postedMillis <= cutoff) {
+            notices.removeFirst();
+            changed = true;
+        }
+        if (notices.isEmpty()) {
+            dropped = 0;
+            expiry.stop();
+        }
+        if (changed) {
+            repaint();
+        }
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        Notice notice = noticeAt(event.getY());
+        return notice == null ? null : notice.title + ": " + notice.message;
+    }
+
+    private Notice noticeAt(int y) {
+        int row = y / (ROW_HEIGHT + ROW_GAP);
+        Iterator<Notice> newestFirst = notices.descendingIterator();
+        for (int i = 0; newestFirst.hasNext(); i++) {
+            Notice notice = newestFirst.next();
+            if (i == row) {
+                return notice;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (notices.isEmpty()) {
+            return;
+        }
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        int width = getWidth() - 1;
+        int y = 0;
+        boolean first = true;
+        // Newest at the top, where the eye already is after pressing a button
+        for (Iterator<Notice> it = notices.descendingIterator(); it.hasNext(); y += ROW_HEIGHT + ROW_GAP) {
+            Notice notice = it.next();
+            g2d.setColor(notice.kind.fill);
+            g2d.fillRoundRect(0, y, width, ROW_HEIGHT, 10, 10);
+            g2d.setColor(notice.kind.edge);
+            g2d.drawRoundRect(0, y, width, ROW_HEIGHT, 10, 10);
+
+            String suffix = notice.count > 1 ? "  ×" + notice.count : "";
+            if (!it.hasNext() && dropped > 0) {
+                suffix += "  (+" + dropped + " earlier)";
+            }
+            drawRow(g2d, notice, suffix, y, width, first);
+            first = false;
+        }
+        g2d.dispose();
+    }
+
+    private void drawRow(Graphics2D g2d, Notice notice, String suffix, int y, int width, boolean newest) {
+        int baseline = y + (ROW_HEIGHT + g2d.getFontMetrics(messageFont).getAscent()) / 2 - 2;
+        int x = 8;
+        int right = width - 8;
+
+        g2d.setFont(titleFont);
+        FontMetrics titleMetrics = g2d.getFontMetrics();
+        String title = notice.title + ": ";
+        g2d.drawString(title, x, baseline);
+        x += titleMetrics.stringWidth(title);
+
+        g2d.setFont(messageFont);
+        FontMetrics metrics = g2d.getFontMetrics();
+        int suffixWidth = metrics.stringWidth(suffix);
+        g2d.setColor(newest ? Color.BLACK : Color.DARK_GRAY);
+        g2d.drawString(fit(notice.message, metrics, right - x - suffixWidth), x, baseline);
+        g2d.setColor(notice.kind.edge);
+        g2d.drawString(suffix, right - suffixWidth, baseline);
+    }
+
+    /**
+     * @return the text, shortened with an ellipsis if wider than the space
+     */
+    private static String fit(String text, FontMetrics metrics, int space) {
+        if (metrics.stringWidth(text) <= space) {
+            return text;
+        }
+        String ellipsis = "…";
+        int end = text.length();
+        while (end > 0 && metrics.stringWidth(text.substring(0, end)) + metrics.stringWidth(ellipsis) > space) {
+            end--;
+        }
+        return text.substring(0, end).stripTrailing() + ellipsis;
+    }
+}
@@ -0,0 +1,294 @@
+package com.plantgrowth;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * A population like {@link Garden}, one packed state byte per plant, kept
+ * outside the Java heap so it can hold billions of plants without growing
+ * the heap or the work of the garbage collector. Plants are indexed by long
+ * and the heap holds only a few objects, so GC time does not grow with the
+ * population. With {@code --add-modules jdk.incubator.foreign} the states
+ * live in one memory segment that {@link #close()} frees at once; otherwise
+ * they live in direct or mapped buffers of up to 1 GB each (see {@link OffHeapStore}).
+ *
+ * {@link #allocate} uses native memory, which is capped by
+ * {@code -XX:MaxDirectMemorySize} (by default the same as {@code -Xmx}).
+ * {@link #openOrCreate} maps a file instead, so the population is bounded by
+ * disk and paged in and out by the operating system. The file starts with a
+ * 64-byte header holding the plant count and rules, like {@link GardenFile},
+ * followed by one byte per plant.
+ */
+public final class OffHeapGarden implements Closeable {
+    private static final int MAGIC = 0x50474f31; // "PGO1"
+    private static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    /** Plants per parallel task; divides a buffer, so no task spans two. */
+    private static final long CHUNK_PLANTS = OffHeapStore.CHUNK_PLANTS;
+
+    private final PlantRules rules;
+    private final long size;
+    private final OffHeapStore store;
+    private final FileChannel channel;
+
+    private OffHeapGarden(PlantRules rules, long size, OffHeapStore store, FileChannel channel) {
+        this.rules = rules;
+        this.size = size;
+        this.store = store;
+        this.channel = channel;
+    }
+
+    /**
+     * Create a garden of seeds in native memory.
+     */
+    public static OffHeapGarden allocate(PlantRules rules, long plants) {
+        checkSize(plants);
+        return new OffHeapGarden(rules, plants, OffHeapStore.allocate(plants), null);
+    }
+
+    /**
+     * Map a garden file, creating a file of seeds if it does not exist yet.
+     * Changes are written back by the operating system, or at the latest by
+     * {@link #force()} and {@link #close()}.
+     * @throws IOException if the file holds a different number of plants or
+     *         was saved under different rules
+     */
+    public static OffHeapGarden openOrCreate(Path path, PlantRules rules, long plants) throws IOException {
+        checkSize(plants);
+        boolean exists = Files.exists(path);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = encodeHeader(rules, plants);
+            if (exists) {
+                ByteBuffer found = ByteBuffer.allocate(HEADER_SIZE);
+                while (found.hasRemaining()) {
+                    if (channel.read(found, found.position()) < 0) {
+                        throw new IOException("Not an off-heap garden file: " + path);
+                    }
+                }
+                if (!found.flip().equals(header) || channel.size() < HEADER_SIZE + plants) {
+                    throw new IOException(path + " was saved by a different simulator");
+                }
+            } else {
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                // Extend the file without writing the plants: unwritten bytes read back as seeds
+                channel.write(ByteBuffer.allocate(1), HEADER_SIZE + Math.max(1, plants) - 1);
+            }
+            return new OffHeapGarden(rules, plants, OffHeapStore.map(path, channel, HEADER_SIZE, plants), channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public PlantRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Water every plant in {@code [from, to)} the given number of times.
+     * Repeated waterings are composed into one table first, as in
+     * {@link Garden#water(int, int, int)}, so each plant is read and written once.
+     */
+    public void water(long from, long to, int times) {
+        checkRange(from, to);
+        if (times <= 0) {
+            return;
+        }
+        byte[] table = times == 1 ? rules.transitions : Garden.compose(rules.transitions, times);
+        if (SimulatorMetrics.ENABLED) {
+            long[] perState = new long[PlantRules.STATE_COUNT];
+            store.addStateCounts(from, to, perState);
+            SimulatorMetrics.INSTANCE.recordSweep(perState, table, times);
+        }
+        store.water(from, to, table);
+    }
+
+    /**
+     * Water every plant the given number of times, in parallel on the common fork/join pool.
+     */
+    public void waterAll(int times) {
+        chunks().forEach(chunk -> water(chunk * CHUNK_PLANTS, Math.min(size, (chunk + 1) * CHUNK_PLANTS), times));
+    }
+
+    /**
+     * Reset every plant in {@code [from, to)} to a seed.
+     */
+    public void reset(long from, long to) {
+        checkRange(from, to);
+        store.reset(from, to);
+    }
+
+    /**
+     * @return packed state of one plant as described in {@link PlantRules}
+     */
+    public int getState(long index) {
+        checkRange(index, index + 1);
+        return store.get(index);
+    }
+
+    public void setState(long index, int state) {
+        checkRange(index, index + 1);
+        if (state < 0 || state >= PlantRules.STATE_COUNT) {
+            throw new IllegalArgumentException("Invalid packed plant state: " + state);
+        }
+        store.set(index, (byte) state);
+    }
+
+    public int getStage(long index) {
+        return PlantRules.stageOf(getState(index));
+    }
+
+    /**
+     * Count plants per stage over {@code [from, to)}, adding into {@code histogram}.
+     * @param histogram array of at least {@link PlantRules#TOTAL_STAGE_COUNT} counters
+     */
+    public void addStageCounts(long from, long to, long[] histogram) {
+        checkRange(from, to);
+        long[] perState = new long[PlantRules.STATE_COUNT];
+        store.addStateCounts(from, to, perState);
+        for (int state = 0; state < perState.length; state++) {
+            histogram[PlantRules.stageOf(state)] += perState[state];
+        }
+    }
+
+    /**
+     * Count plants per stage over the whole garden, in parallel.
+     */
+    public long[] stageHistogram() {
+        return chunks().mapToObj(chunk -> {
+            long[] histogram = new long[PlantRules.TOTAL_STAGE_COUNT];
+            addStageCounts(chunk * CHUNK_PLANTS, Math.min(size, (chunk + 1) * CHUNK_PLANTS), histogram);
+            return histogram;
+        }).reduce(new long[PlantRules.TOTAL_STAGE_COUNT], (a, b) -> {
+            long[] sum = a.clone();
+            for (int stage = 0; stage < sum.length; stage++) {
+                sum[stage] += b[stage];
+            }
+            return sum;
+        });
+    }
+
+    /**
+     * Write changed plants of a file-backed garden to the storage device.
+     */
+    public void force() {
+        store.force();
+    }
+
+    /**
+     * Flush a file-backed garden, close its file and release the memory: at
+     * once for a memory segment, when the buffers are garbage collected
+     * otherwise. The garden must not be used afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            store.force();
+        } finally {
+            store.release();
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+
+    private LongStream chunks() {
+        return LongStream.range(0, (size + CHUNK_PLANTS - 1) / CHUNK_PLANTS).parallel();
+    }
+
+    private void checkRange(long from, long to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for garden of "
+                    + size + " plants");
+        }
+    }
+
+    private static void checkSize(long plants) {
+        if (plants < 0) {
+            throw new IllegalArgumentException("Garden size must not be negative: " + plants);
+        }
+    }
+
+    private static ByteBuffer encodeHeader(PlantRules rules, long plants) {
+        int[] thresholds = rules.getGrowthWaterThresholds();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putLong(plants);
+        for (int stage = 0; stage < PlantRules.GROWTH_STAGE_COUNT - 1; stage++) {
+            header.putInt(thresholds[stage]);
+        }
+        header.putInt(rules.getSafeWaterAtFlowering()).putInt(rules.getDeclineWaterThreshold());
+        return header.position(HEADER_SIZE).flip();
+    }
+
+    /**
+     * Demo: water an off-heap garden for a few rounds, check its first
+     * plants against an on-heap {@link Garden} and report GC time.
+     * Usage: {@code OffHeapGarden [plants] [rounds] [file]}; without a file
+     * the garden is allocated in native memory. Add
+     * {@code --add-modules jdk.incubator.foreign} to use a memory segment.
+     */
+    public static void main(String[] args) throws IOException {
+        long plants = args.length > 0 ? Long.parseLong(args[0]) : 100_000_000L;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        PlantRules rules = PlantRules.GUI;
+        long gcBefore = gcMillis();
+
+        long start = System.nanoTime();
+        try (OffHeapGarden garden = args.length > 2
+                ? openOrCreate(Paths.get(args[2]), rules, plants)
+                : allocate(rules, plants)) {
+            System.out.printf("Opened %,d plants in %s in %.1f ms%n", plants,
+                    OffHeapStore.usesSegments() ? "a memory segment" : "buffers", (System.nanoTime() - start) / 1e6);
+
+            // The same sweeps on an on-heap copy of the first plants must give the same states
+            Garden reference = new Garden(rules, (int) Math.min(plants, 1 << 20));
+            for (int i = 0; i < reference.size(); i++) {
+                reference.setState(i, garden.getState(i));
+            }
+            start = System.nanoTime();
+            for (int round = 0; round < rounds; round++) {
+                int times = round % 3 + 1;
+                garden.waterAll(times);
+                reference.water(0, reference.size(), times);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d rounds: %.2f s, %,.0f plants/s%n", rounds, seconds, plants * rounds / seconds);
+
+            for (int i = 0; i < reference.size(); i++) {
+                if (garden.getState(i) != reference.getState(i)) {
+                    throw new IllegalStateException("Plant " + i + " differs from the on-heap garden");
+                }
+            }
+            System.out.println("Stage histogram: " + Arrays.toString(garden.stageHistogram()));
+        }
+        Runtime runtime = Runtime.getRuntime();
+        System.out.printf("GC time %d ms, heap used %,d KB%n", gcMillis() - gcBefore,
+                (runtime.totalMemory() - runtime.freeMemory()) / 1024);
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,115 @@
+package com.plantgrowth;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * Packed plant states of an {@link OffHeapGarden}, one byte per plant outside
+ * the Java heap and indexed by long. {@code SegmentStore} keeps them in one
+ * memory segment of the incubating Foreign Memory API; like the vector kernel
+ * it lives in the separately compiled {@code src/incubator/java} source root
+ * and is used only when the JVM was started with
+ * {@code --add-modules jdk.incubator.foreign}. Otherwise {@link BufferStore}
+ * keeps them in direct or mapped ByteBuffers of up to 1 GB each.
+ */
+abstract class OffHeapStore {
+    /** Plants per inner loop; segment and buffer boundaries fall on multiples of it. */
+    static final int CHUNK_PLANTS = 1 << 20;
+
+    private static final Method ALLOCATE = findSegmentStore("allocate", long.class);
+    private static final Method MAP = findSegmentStore("map", Path.class, long.class, long.class);
+
+    abstract byte get(long index);
+
+    abstract void set(long index, byte state);
+
+    /**
+     * Replace every state in {@code [from, to)} by its entry in {@code table}.
+     */
+    abstract void water(long from, long to, byte[] table);
+
+    abstract void reset(long from, long to);
+
+    /**
+     * Count plants per packed state over {@code [from, to)}, adding into {@code perState}.
+     */
+    abstract void addStateCounts(long from, long to, long[] perState);
+
+    /**
+     * Write changed plants of a mapped store to the storage device.
+     */
+    abstract void force();
+
+    /**
+     * Free the memory or unmap the file now where the store can; a released
+     * store must not be used again.
+     */
+    abstract void release();
+
+    /**
+     * @return whether stores are memory segments rather than ByteBuffers in this JVM
+     */
+    static boolean usesSegments() {
+        return ALLOCATE != null;
+    }
+
+    /**
+     * @return store of seeds in native memory
+     */
+    static OffHeapStore allocate(long plants) {
+        if (ALLOCATE == null) {
+            return BufferStore.allocate(plants);
+        }
+        try {
+            return (OffHeapStore) ALLOCATE.invoke(null, plants);
+        } catch (InvocationTargetException e) {
+            throw rethrow(e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create the segment store", e);
+        }
+    }
+
+    /**
+     * @return store mapping {@code plants} bytes of a file at {@code offset};
+     *         the file must already be that long
+     */
+    static OffHeapStore map(Path path, FileChannel channel, long offset, long plants) throws IOException {
+        if (MAP == null) {
+            return BufferStore.map(channel, offset, plants);
+        }
+        try {
+            return (OffHeapStore) MAP.invoke(null, path, offset, plants);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw rethrow(e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not map the segment store", e);
+        }
+    }
+
+    private static RuntimeException rethrow(InvocationTargetException e) {
+        if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+            throw (Error) e.getCause();
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    private static Method findSegmentStore(String name, Class<?>... parameterTypes) {
+        if (ModuleLayer.boot().findModule("jdk.incubator.foreign").isEmpty()) {
+            return null;
+        }
+        try {
+            return Class.forName("com.plantgrowth.SegmentStore").getDeclaredMethod(name, parameterTypes);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.plantgrowth;
+
+/**
+ * Custom exception thrown when the plant is watered too many times.
+ * Thrown by the VirtualPlantGrowthSimulator when the user exceeds the allowed
+ * number of waterings for a fully-grown plant. The engine itself reports this
+ * through {@link WaterOutcome} codes; the exception is only raised by the
+ * {@link PlantEngine#waterOrThrow(String, String)} adapter.
+ */
+public class OverWateringException extends Exception {
+    private final int outcome;
+
+    /**
+     * Create exception with message.
+     * @param message detail message
+     */
+    public OverWateringException(String message) {
+        this(message, WaterOutcome.DIED);
+    }
+
+    /**
+     * Create exception with message and outcome.
+     * @param message detail message
+     * @param outcome {@link WaterOutcome} code that caused the exception
+     */
+    public OverWateringException(String message, int outcome) {
+        super(message);
+        this.outcome = outcome;
+    }
+
+    /**
+     * Create exception with message and cause.
+     * @param message detail message
+     * @param cause root cause
+     */
+    public OverWateringException(String message, Throwable cause) {
+        super(message, cause);
+        this.outcome = WaterOutcome.DIED;
+    }
+
+    /**
+     * Create exception with control over stack trace capture.
+     * @param message detail message
+     * @param outcome {@link WaterOutcome} code that caused the exception
+     * @param writableStackTrace whether to capture a stack trace
+     */
+    protected OverWateringException(String message, int outcome, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+        this.outcome = outcome;
+    }
+
+    /**
+     * @return {@link WaterOutcome#DIED} or {@link WaterOutcome#ALREADY_DEAD}
+     */
+    public int getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Shared by the {@code waterOrThrow} adapters.
+     * @return the outcome if it is not fatal
+     */
+    static int throwIfFatal(int outcome, String diedMessage, String alreadyDeadMessage, boolean captureStackTrace)
+            throws OverWateringException {
+        if (!WaterOutcome.isFatal(outcome)) {
+            return outcome;
+        }
+        String message = outcome == WaterOutcome.DIED ? diedMessage : alreadyDeadMessage;
+        SimulatorEvents.overWatered(outcome, message);
+        throw captureStackTrace
+                ? new OverWateringException(message, outcome)
+                : new StacklessOverWateringException(message, outcome);
+    }
+}
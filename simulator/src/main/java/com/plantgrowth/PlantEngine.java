@@ -0,0 +1,92 @@
+package com.plantgrowth;
+
+/**
+ * Headless single-plant state machine shared by the Swing and console front ends.
+ * Owns the current stage and the water received at that stage, and advances
+ * them through a compiled {@link PlantRules} table without allocating. Rules
+ * come from a {@link LiveRules} holder, so a swap takes effect on the next watering.
+ */
+public final class PlantEngine {
+    private final LiveRules rules;
+    private int state = 0;
+
+    public PlantEngine(PlantRules rules) {
+        this(new LiveRules(rules));
+    }
+
+    public PlantEngine(LiveRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Water the plant once.
+     * @return {@link WaterOutcome} code describing what happened
+     */
+    public int water() {
+        PlantRules current = rules.get();
+        int previous = state;
+        state = current.next(previous);
+        int outcome = current.outcome(previous);
+        SimulatorEvents.watered(previous, outcome, state);
+        return outcome;
+    }
+
+    /**
+     * Water the plant once, raising fatal outcomes as an exception.
+     * Adapter for interactive front ends; bulk callers should use {@link #water()}.
+     * @param diedMessage message used when the plant dies from this watering
+     * @param alreadyDeadMessage message used when the plant was already dead
+     * @return non-fatal {@link WaterOutcome} code
+     * @throws OverWateringException if the outcome is DIED or ALREADY_DEAD
+     */
+    public int waterOrThrow(String diedMessage, String alreadyDeadMessage) throws OverWateringException {
+        return waterOrThrow(diedMessage, alreadyDeadMessage, true);
+    }
+
+    /**
+     * As {@link #waterOrThrow(String, String)}, optionally without a stack trace.
+     * @param captureStackTrace false to throw a {@link StacklessOverWateringException},
+     *                          for bulk callers that still want exception-style control flow
+     */
+    public int waterOrThrow(String diedMessage, String alreadyDeadMessage, boolean captureStackTrace)
+            throws OverWateringException {
+        return OverWateringException.throwIfFatal(water(), diedMessage, alreadyDeadMessage, captureStackTrace);
+    }
+
+    /**
+     * Return the plant to a freshly planted seed.
+     */
+    public void reset() {
+        state = 0;
+    }
+
+    public int getStage() {
+        return PlantRules.stageOf(state);
+    }
+
+    public int getWaterAtCurrentStage() {
+        return PlantRules.waterOf(state);
+    }
+
+    public boolean isDead() {
+        return getStage() == PlantRules.DEAD_STAGE;
+    }
+
+    /**
+     * @return stage and water packed as described in {@link PlantRules}
+     */
+    public int getState() {
+        return state;
+    }
+
+    void setState(int state) {
+        this.state = state;
+    }
+
+    /**
+     * @return rules in force now
+     */
+    public PlantRules getRules() {
+        return rules.get();
+    }
+}
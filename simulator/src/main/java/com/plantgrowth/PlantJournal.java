@@ -0,0 +1,85 @@
+package com.plantgrowth;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * History of a front end's single plant, kept in a {@link GardenJournal} of
+ * one plant so waterings and resets survive both a reset and a restart.
+ * When a rules swap has changed what a watering did, the engine's rules are
+ * recorded before the watering, so a replay reaches the same state.
+ */
+final class PlantJournal implements Closeable {
+    private static final long SNAPSHOT_INTERVAL = 10_000;
+
+    private final GardenJournal journal;
+
+    private PlantJournal(GardenJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Continue the journal in {@code directory}, or start one for a seed
+     * growing under {@code rules} if there is none yet.
+     */
+    static PlantJournal openOrCreate(Path directory, PlantRules rules) throws IOException {
+        GardenJournal journal = Files.exists(directory.resolve(GardenJournal.JOURNAL_FILE))
+                ? GardenJournal.open(directory, SNAPSHOT_INTERVAL)
+                : GardenJournal.create(directory, new Garden(rules, 1), SNAPSHOT_INTERVAL);
+        if (journal.getGarden().size() != 1) {
+            int plants = journal.getGarden().size();
+            journal.close();
+            throw new IOException(directory + " holds a journal of " + plants + " plants, not one");
+        }
+        return new PlantJournal(journal);
+    }
+
+    /**
+     * @return packed state the history leads to
+     */
+    int getState() {
+        return journal.getGarden().getState(0);
+    }
+
+    /**
+     * Record {@code times} waterings that took the engine's plant from {@code previousState}
+     * to its current state.
+     */
+    void watered(int previousState, long times, PlantEngine engine) throws IOException {
+        if (stateAfter(journal.getGarden().getRules(), previousState, times) != engine.getState()) {
+            journal.setRules(engine.getRules());
+        }
+        for (long left = times; left > 0; left -= Integer.MAX_VALUE) {
+            journal.water(0, (int) Math.min(left, Integer.MAX_VALUE));
+        }
+    }
+
+    void reset() throws IOException {
+        journal.reset(0);
+    }
+
+    /**
+     * Write recorded events to disk.
+     */
+    void flush() throws IOException {
+        journal.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+
+    private static int stateAfter(PlantRules rules, int state, long times) {
+        for (long t = 0; t < times; t++) {
+            int next = rules.next(state);
+            if (next == state) {
+                break;
+            }
+            state = next;
+        }
+        return state;
+    }
+}
@@ -0,0 +1,136 @@
+package com.plantgrowth;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load generator for {@link PlantServer}. Opens every session first so they
+ * are all connected at once, then releases them together; each session
+ * waters its own plant (resetting it when it dies) and times every request.
+ * Reports throughput and latency percentiles over all requests, including
+ * those of sessions that failed partway.
+ */
+public final class PlantLoadGenerator {
+    private PlantLoadGenerator() {
+    }
+
+    /**
+     * Usage: {@code PlantLoadGenerator [sessions] [requests per session] [port]};
+     * without a port an in-process server on a free port is used.
+     */
+    public static void main(String[] args) throws Exception {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        PlantServer embedded = args.length > 2 ? null : new PlantServer(0);
+        int port = embedded != null ? embedded.getPort() : Integer.parseInt(args[2]);
+
+        long[][] latencies = new long[sessions][];
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch connected = new CountDownLatch(sessions);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(sessions);
+        ExecutorService executor = PlantServer.newSessionExecutor();
+        for (int i = 0; i < sessions; i++) {
+            int session = i;
+            executor.execute(() -> {
+                // Count each session down once, whether it connects or fails first
+                AtomicBoolean counted = new AtomicBoolean();
+                Runnable countConnected = () -> {
+                    if (counted.compareAndSet(false, true)) {
+                        connected.countDown();
+                    }
+                };
+                // Unsent requests stay negative; a failed session keeps the samples it took
+                long[] samples = new long[requests];
+                Arrays.fill(samples, -1);
+                latencies[session] = samples;
+                try {
+                    runSession(port, "plant-" + session, samples, countConnected, start);
+                } catch (IOException | InterruptedException | RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    countConnected.run();
+                    finished.countDown();
+                }
+            });
+        }
+
+        connected.await();
+        System.out.printf("%,d sessions connected (%,d failed)%n", sessions - failures.get(), failures.get());
+        long began = System.nanoTime();
+        start.countDown();
+        finished.await();
+        double seconds = (System.nanoTime() - began) / 1e9;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).filter(l -> l >= 0).toArray();
+        Arrays.sort(all);
+        System.out.printf("%,d requests in %.2f s: %,.0f requests/s%n", all.length, seconds, all.length / seconds);
+        if (all.length > 0) {
+            System.out.printf("latency p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us%n",
+                    percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999),
+                    all[all.length - 1] / 1e3);
+        }
+        if (embedded != null) {
+            System.out.printf("server: %,d plants, %,d requests handled%n",
+                    embedded.getPlantCount(), embedded.getRequests());
+            embedded.close();
+        }
+    }
+
+    /**
+     * @param latencies receives the latency of each request as it completes or fails
+     * @param connected run once the session is connected, before waiting for {@code start}
+     */
+    private static void runSession(int port, String plant, long[] latencies, Runnable connected,
+                                   CountDownLatch start) throws IOException, InterruptedException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             BufferedWriter out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            socket.setTcpNoDelay(true);
+            connected.run();
+            start.await();
+
+            String water = "WATER " + plant + "\n";
+            String reset = "RESET " + plant + "\n";
+            boolean dead = false;
+            for (int i = 0; i < latencies.length; i++) {
+                long sent = System.nanoTime();
+                String reply;
+                try {
+                    out.write(dead ? reset : water);
+                    out.flush();
+                    reply = in.readLine();
+                } finally {
+                    latencies[i] = System.nanoTime() - sent;
+                }
+                if (reply == null || reply.startsWith("ERROR")) {
+                    throw new IOException("Bad reply: " + reply);
+                }
+                dead = reply.startsWith("DIED") || reply.startsWith("ALREADY_DEAD");
+            }
+            out.write("QUIT\n");
+            out.flush();
+        }
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e3;
+    }
+}
@@ -0,0 +1,183 @@
+package com.plantgrowth;
+
+import java.awt.*;
+import java.awt.event.*;
+import javax.swing.*;
+
+/**
+ * PlantPanel draws a full plant (roots, stem, leaves, flower) programmatically
+ * using Graphics2D so the plant is always visible and scales nicely. Each stage
+ * is rendered once per size into a StageSpriteCache and blitted on repaint.
+ * It exposes setStage(int) to change growth stage and includes a simple
+ * animation when stage changes. Animation frames come from the shared
+ * {@link AnimationClock}, repaint only the plant's bounding box, skip ticks
+ * while a frame is still pending and skip more ticks when painting is expensive.
+ * A pulse ends at once while the window is iconified, and a frame that has
+ * not been painted within half a second is given up on.
+ */
+public class PlantPanel extends JPanel {
+    /** Time unit of the pulse; the clock's frame rate only decides how often it is sampled. */
+    private static final int PULSE_TICK_MS = 40;
+    private static final long MAX_FRAME_DELAY_NANOS = 200_000_000L;
+    /** A pending frame older than this is taken as lost, for example to a hidden window. */
+    private static final long FRAME_TIMEOUT_NANOS = 500_000_000L;
+    static final int PULSE_TICKS = 30;
+
+    private int stage = 0; // 0..6 (0..3 growth, 4..6 dying -> 6 = dead)
+    private float animScale = 1.0f;
+    private boolean animating = false;
+    private final StageSpriteCache sprites = new StageSpriteCache();
+
+    // Frame pacing: the pulse follows wall-clock time, so skipped ticks never slow it down
+    private long animStartNanos;
+    private long nextFrameNanos;
+    private boolean framePending = false;
+    private long framePendingSince;
+    private Rectangle lastPlantBounds;
+    private double paintCostNanos = 0;
+    private int droppedFrames = 0;
+
+    public PlantPanel() {
+        setBackground(new Color(240, 248, 255)); // Light blue background
+        setPreferredSize(new Dimension(500, 320));
+        setOpaque(true);
+
+        // MouseAdapter example: click inside panel toggles a small bounce animation
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                // trigger a short animated pulse
+                startAnimation();
+            }
+        });
+    }
+
+    public void setStage(int stage) {
+        // allow stages up to 6 (including dying/dead stages)
+        this.stage = Math.max(0, Math.min(stage, 6));
+        // start animation
+        startAnimation();
+        lastPlantBounds = null;
+        repaint();
+    }
+
+    /**
+     * @return number of animation ticks skipped because the previous frame was still being painted
+     */
+    public int getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    private void startAnimation() {
+        if (!animating) {
+            animating = true;
+            animStartNanos = System.nanoTime();
+            nextFrameNanos = animStartNanos;
+            AnimationClock.SHARED.start(this::animateFrame);
+        }
+    }
+
+    /**
+     * @return whether the pulse is still running
+     */
+    private boolean animateFrame(long now) {
+        if (!isShowing() || isIconified()) {
+            // Nothing will be painted, so finish the pulse immediately
+            animScale = 1.0f;
+            framePending = false;
+            animating = false;
+            return false;
+        }
+        if (now < nextFrameNanos) {
+            return true;
+        }
+        if (framePending && now - framePendingSince < FRAME_TIMEOUT_NANOS) {
+            // The last frame has not been painted yet; let it finish instead of queueing another
+            droppedFrames++;
+            SimulatorEvents.frameDropped(stage, droppedFrames);
+            return true;
+        }
+
+        double ticks = (now - animStartNanos) / (PULSE_TICK_MS * 1_000_000.0);
+        animating = ticks <= PULSE_TICKS;
+        animScale = animating ? PlantRenderer.pulseScale(ticks) : 1.0f;
+        repaintPlant();
+
+        // Keep painting under roughly half of the event thread's time on slow pipelines
+        nextFrameNanos = now + (long) Math.min(MAX_FRAME_DELAY_NANOS, 2 * paintCostNanos);
+        return animating;
+    }
+
+    private void repaintPlant() {
+        Rectangle plantBounds = PlantRenderer.animatedBounds(getWidth(), getHeight(), stage, animScale);
+        Rectangle dirty = lastPlantBounds == null ? plantBounds : plantBounds.union(lastPlantBounds);
+        lastPlantBounds = plantBounds;
+        framePending = true;
+        framePendingSince = System.nanoTime();
+        repaint(dirty);
+    }
+
+    private boolean isIconified() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        return window instanceof Frame && (((Frame) window).getExtendedState() & Frame.ICONIFIED) != 0;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        SimulatorEvents.PanelPaint event = SimulatorEvents.paintStarted();
+        long start = System.nanoTime();
+        Graphics2D g2 = (Graphics2D) g.create();
+        int w = getWidth();
+        int h = getHeight();
+
+        sprites.update(getGraphicsConfiguration(), w, h, g2.getTransform(), getBackground());
+        if (animScale == 1.0f) {
+            sprites.draw(g2, stage, StageSpriteCache.STILL, 0);
+        } else {
+            // Only the stem and flower move with the pulse; everything else comes from the cache
+            PlantRenderer.applyQualityHints(g2);
+            sprites.draw(g2, stage, StageSpriteCache.GROUND, 0);
+            PlantRenderer.paintStem(g2, w, h, stage, animScale);
+            sprites.draw(g2, stage, StageSpriteCache.FOLIAGE, 0);
+            if (PlantRenderer.hasFlower(stage)) {
+                int offsetY = PlantRenderer.stemTopY(h, stage, animScale) - PlantRenderer.stemTopY(h, stage, 1.0f);
+                sprites.draw(g2, stage, StageSpriteCache.FLOWER, offsetY);
+            }
+        }
+
+        g2.dispose();
+
+        framePending = false;
+        long cost = System.nanoTime() - start;
+        paintCostNanos = paintCostNanos == 0 ? cost : paintCostNanos * 0.8 + cost * 0.2;
+        SimulatorEvents.painted(event, cost, stage, animScale != 1.0f, w, h);
+    }
+
+    /**
+     * Render the cached images of a stage now, so the first switch to it
+     * does not pay for rendering. Does nothing until the panel is displayed.
+     */
+    void prepareStage(int stage) {
+        Graphics2D g2 = isDisplayable() && getWidth() > 0 && getHeight() > 0 ? (Graphics2D) getGraphics() : null;
+        if (g2 == null) {
+            return;
+        }
+        try {
+            sprites.update(getGraphicsConfiguration(), getWidth(), getHeight(), g2.getTransform(), getBackground());
+        } finally {
+            g2.dispose();
+        }
+        sprites.prepare(stage, StageSpriteCache.STILL);
+        sprites.prepare(stage, StageSpriteCache.GROUND);
+        sprites.prepare(stage, StageSpriteCache.FOLIAGE);
+        if (PlantRenderer.hasFlower(stage)) {
+            sprites.prepare(stage, StageSpriteCache.FLOWER);
+        }
+    }
+
+    @Override
+    public void removeNotify() {
+        super.removeNotify();
+        sprites.flush();
+    }
+}
@@ -0,0 +1,281 @@
+package com.plantgrowth;
+
+import java.awt.*;
+
+/**
+ * Draws the plant used by PlantPanel. The drawing is split into layers in
+ * painting order (ground, stem, foliage, flower) so that callers can cache
+ * everything except the parts that move with the pulse animation.
+ * Colours and strokes are created once rather than on every paint.
+ */
+final class PlantRenderer {
+    /** Size of PlantPanel the drawing was designed for. */
+    static final int REFERENCE_WIDTH = 500;
+    static final int REFERENCE_HEIGHT = 320;
+
+    private static final Color SOIL = new Color(169, 117, 77);
+
+    private static final Color[] ROOT_COLORS = {
+        new Color(120, 80, 50), new Color(110, 70, 40), new Color(100, 60, 35), new Color(90, 50, 30)
+    };
+    private static final Stroke[] ROOT_STROKES = {
+        new BasicStroke(3), new BasicStroke(2.5f), new BasicStroke(2), new BasicStroke(1.5f)
+    };
+
+    private static final Color[] STEM_COLORS = {
+        new Color(34, 139, 34), new Color(120, 100, 50), new Color(110, 90, 45), new Color(100, 65, 40)
+    };
+    private static final Stroke[] STEM_STROKES = {
+        new BasicStroke(8), new BasicStroke(6), new BasicStroke(4), new BasicStroke(10)
+    };
+
+    private static final Stroke THIN_STROKE = new BasicStroke(1);
+    private static final Color SPROUT_LEAF = new Color(50, 205, 50);
+    private static final Color GREEN_LEAF = new Color(34, 139, 34);
+    private static final Color WILTED_LEAF = new Color(139, 69, 19);
+    private static final Color DYING_LEAF = new Color(120, 60, 20);
+    private static final Color SEED = new Color(102, 51, 0);
+
+    private static final Color BUD = new Color(255, 240, 245);
+    private static final Color YOUNG_FLOWER = new Color(255, 182, 193);
+    private static final Color PETAL = new Color(255, 105, 180);
+    private static final Color FLOWER_CENTRE = new Color(255, 215, 0);
+    private static final Color WILTED_FLOWER = new Color(205, 92, 92);
+    private static final Color DARK_BUD = new Color(120, 60, 60);
+    private static final Color DEAD = new Color(128, 128, 128);
+
+    /** One representative colour per stage, used when a plant is too small to draw. */
+    private static final Color[] STAGE_COLORS = {
+        SEED, SPROUT_LEAF, GREEN_LEAF, PETAL, WILTED_LEAF, DYING_LEAF, DEAD
+    };
+
+    private PlantRenderer() {
+    }
+
+    static Color stageColor(int stage) {
+        return STAGE_COLORS[stage];
+    }
+
+    static void applyQualityHints(Graphics2D g2) {
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    }
+
+    /**
+     * Draw the whole plant, equivalent to painting every layer in order.
+     */
+    static void paintPlant(Graphics2D g2, int w, int h, int stage, float animScale) {
+        paintGround(g2, w, h, stage);
+        paintStem(g2, w, h, stage, animScale);
+        paintFoliage(g2, w, h, stage);
+        paintFlower(g2, w, h, stage, stemTopY(h, stage, animScale));
+    }
+
+    /**
+     * Stem scale of the pulse animation after the given number of 40 ms ticks.
+     */
+    static float pulseScale(double ticks) {
+        return 1.0f + 0.05f * (float) Math.sin(ticks * 0.3);
+    }
+
+    static int groundY(int h) {
+        return (int) (h * 0.65);
+    }
+
+    static int stemTopY(int h, int stage, float animScale) {
+        // stem base - grows with stage
+        // stem and leaves adjust when dying
+        int stemHeight;
+        if (stage <= 3) {
+            stemHeight = 30 + stage * 40;
+        } else if (stage == 4) {
+            stemHeight = 30 + 3 * 40 - 20; // slightly shorter
+        } else if (stage == 5) {
+            stemHeight = 30 + 3 * 40 - 40; // much shorter
+        } else {
+            stemHeight = 20; // dead stump
+        }
+        return groundY(h) - (int) (stemHeight * animScale);
+    }
+
+    /**
+     * Bounds of everything {@link #paintFoliage} can draw, with room for antialiasing.
+     */
+    static Rectangle foliageBounds(int w, int h) {
+        return new Rectangle(w / 2 - 92, groundY(h) - 92, 184, 96);
+    }
+
+    /**
+     * Bounds of everything {@link #paintFlower} can draw, with room for antialiasing.
+     */
+    static Rectangle flowerBounds(int w, int stemTopY) {
+        return new Rectangle(w / 2 - 32, stemTopY - 32, 58, 62);
+    }
+
+    /**
+     * Bounds of the parts that move with the pulse animation (stem and flower).
+     */
+    static Rectangle animatedBounds(int w, int h, int stage, float animScale) {
+        int stemTopY = stemTopY(h, stage, animScale);
+        int groundY = groundY(h);
+        Rectangle bounds = new Rectangle(w / 2 - 6, stemTopY - 6, 12, groundY - stemTopY + 12);
+        if (hasFlower(stage)) {
+            bounds.add(flowerBounds(w, stemTopY));
+        }
+        return bounds;
+    }
+
+    static boolean hasFlower(int stage) {
+        return stage >= 1 && stage <= 5;
+    }
+
+    /**
+     * Soil and roots; unaffected by animation.
+     */
+    static void paintGround(Graphics2D g2, int w, int h, int stage) {
+        int cx = w / 2;
+        int groundY = groundY(h);
+
+        // draw soil
+        g2.setColor(SOIL);
+        g2.fillRect(0, groundY, w, h - groundY);
+
+        // draw roots (varying with dying stages)
+        Stroke old = g2.getStroke();
+        int look = Math.max(0, stage - 3);
+        g2.setColor(ROOT_COLORS[look]);
+        g2.setStroke(ROOT_STROKES[look]);
+        if (stage <= 3) {
+            g2.drawLine(cx, groundY, cx - 30, groundY + 40);
+            g2.drawLine(cx, groundY, cx + 30, groundY + 40);
+            g2.drawLine(cx - 10, groundY, cx - 50, groundY + 60);
+            g2.drawLine(cx + 10, groundY, cx + 50, groundY + 60);
+        } else if (stage == 4) {
+            // roots starting to shrink
+            g2.drawLine(cx, groundY, cx - 20, groundY + 30);
+            g2.drawLine(cx, groundY, cx + 20, groundY + 30);
+        } else if (stage == 5) {
+            // more root loss
+            g2.drawLine(cx, groundY, cx - 15, groundY + 20);
+            g2.drawLine(cx, groundY, cx + 15, groundY + 20);
+        } else {
+            // dead - minimal broken roots
+            g2.drawLine(cx - 5, groundY + 5, cx - 20, groundY + 25);
+        }
+        g2.setStroke(old);
+    }
+
+    /**
+     * Stem, whose height follows the pulse animation.
+     */
+    static void paintStem(Graphics2D g2, int w, int h, int stage, float animScale) {
+        int cx = w / 2;
+        int groundY = groundY(h);
+        int stemTopY = stemTopY(h, stage, animScale);
+
+        Stroke old = g2.getStroke();
+        int look = Math.max(0, stage - 3);
+        g2.setColor(STEM_COLORS[look]);
+        g2.setStroke(STEM_STROKES[look]);
+        if (stage < 6) {
+            g2.drawLine(cx, groundY, cx, stemTopY);
+        } else {
+            // dead stump
+            g2.drawLine(cx, groundY, cx, stemTopY + 10);
+        }
+        g2.setStroke(old);
+    }
+
+    /**
+     * Leaves and the seed indicator; unaffected by animation.
+     */
+    static void paintFoliage(Graphics2D g2, int w, int h, int stage) {
+        int cx = w / 2;
+        int groundY = groundY(h);
+
+        Stroke old = g2.getStroke();
+        g2.setStroke(THIN_STROKE);
+        switch (stage) {
+            case 1 -> {
+                g2.setColor(SPROUT_LEAF);
+                g2.fillOval(cx - 70, groundY - 30 - stage * 10, 60, 30);
+                g2.fillOval(cx + 10, groundY - 30 - stage * 10, 60, 30);
+            }
+            case 2 -> {
+                g2.setColor(GREEN_LEAF);
+                g2.fillOval(cx - 90, groundY - 60 - stage * 10, 70, 35);
+                g2.fillOval(cx + 20, groundY - 60 - stage * 10, 70, 35);
+            }
+            case 3 -> {
+                g2.setColor(GREEN_LEAF);
+                g2.fillOval(cx - 90, groundY - 60 - stage * 10, 80, 40);
+                g2.fillOval(cx + 10, groundY - 60 - stage * 10, 80, 40);
+            }
+            case 4 -> {
+                // leaves droop and brown
+                g2.setColor(WILTED_LEAF);
+                g2.fillOval(cx - 60, groundY - 20, 50, 20);
+                g2.fillOval(cx + 10, groundY - 20, 50, 20);
+            }
+            case 5 -> {
+                // very few small leaves
+                g2.setColor(DYING_LEAF);
+                g2.fillOval(cx - 30, groundY - 10, 30, 12);
+            }
+            default -> {
+                // dead - no leaves
+            }
+        }
+
+        // seed indicator for stage 0
+        if (stage == 0) {
+            g2.setColor(SEED);
+            g2.fillOval(cx - 6, groundY - 10, 12, 8);
+        }
+        g2.setStroke(old);
+    }
+
+    /**
+     * Flower or bud, positioned relative to the top of the stem.
+     */
+    static void paintFlower(Graphics2D g2, int w, int h, int stage, int stemTopY) {
+        int cx = w / 2;
+        switch (stage) {
+            case 1 -> {
+                g2.setColor(BUD);
+                int budY = stemTopY - 10;
+                g2.fillOval(cx - 8, budY, 16, 16);
+            }
+            case 2 -> {
+                g2.setColor(YOUNG_FLOWER);
+                int flowerY2 = stemTopY - 20;
+                g2.fillOval(cx - 15, flowerY2, 24, 24);
+            }
+            case 3 -> {
+                g2.setColor(PETAL);
+                int flowerY = stemTopY - 30;
+                g2.fillOval(cx - 30, flowerY, 24, 24);
+                g2.fillOval(cx, flowerY, 24, 24);
+                g2.setColor(FLOWER_CENTRE);
+                g2.fillOval(cx - 10, flowerY + 8, 20, 20);
+            }
+            case 4 -> {
+                // wilted flower
+                g2.setColor(WILTED_FLOWER);
+                int flowerY4 = stemTopY - 20;
+                g2.fillOval(cx - 15, flowerY4, 20, 12);
+            }
+            case 5 -> {
+                // no flower, maybe a dark bud
+                g2.setColor(DARK_BUD);
+                int flowerY5 = stemTopY - 10;
+                g2.fillOval(cx - 8, flowerY5, 10, 8);
+            }
+            default -> {
+                // dead - nothing on top
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.plantgrowth;
+
+/**
+ * Watering rules compiled into a flat transition table.
+ * A plant's state is packed into a single int (stage in the high bits, water
+ * received at the current stage in the low bits), so one watering step is a
+ * single array lookup with no branching and no allocation.
+ */
+public final class PlantRules {
+    public static final int GROWTH_STAGE_COUNT = 4;
+    public static final int TOTAL_STAGE_COUNT = 7;
+    public static final int DEAD_STAGE = TOTAL_STAGE_COUNT - 1;
+
+    static final int WATER_BITS = 4;
+    public static final int MAX_WATER = (1 << WATER_BITS) - 1;
+    static final int STATE_COUNT = TOTAL_STAGE_COUNT << WATER_BITS;
+
+    /** Default rules of the Swing simulator, also used by the headless tools and the server. */
+    public static final PlantRules GUI = compile(new int[] {2, 2, 2, Integer.MAX_VALUE}, 3, 1);
+    /** Default rules of the console simulator. */
+    public static final PlantRules CONSOLE = compile(new int[] {1, 2, 2, Integer.MAX_VALUE}, 3, 1);
+
+    /** Packed next state for every packed state. Shared with bulk engines; never modified. */
+    final byte[] transitions;
+    /** {@link WaterOutcome} code for watering each packed state. */
+    final byte[] outcomes;
+
+    private final int[] growthWaterThresholds;
+    private final int safeWaterAtFlowering;
+    private final int declineWaterThreshold;
+
+    private PlantRules(byte[] transitions, byte[] outcomes, int[] growthWaterThresholds,
+                       int safeWaterAtFlowering, int declineWaterThreshold) {
+        this.transitions = transitions;
+        this.outcomes = outcomes;
+        this.growthWaterThresholds = growthWaterThresholds;
+        this.safeWaterAtFlowering = safeWaterAtFlowering;
+        this.declineWaterThreshold = declineWaterThreshold;
+    }
+
+    /**
+     * Compile the rules used by the simulators into a transition table.
+     * The table reproduces the watering logic of the front ends exactly; the
+     * only difference is that water received by a dead plant saturates at
+     * {@link #MAX_WATER} instead of counting forever.
+     * @param growthWaterThresholds water needed to leave each growth stage
+     * @param safeWaterAtFlowering water absorbed safely before decline starts
+     * @param declineWaterThreshold water needed to advance a decline stage
+     * @return compiled rules
+     */
+    public static PlantRules compile(int[] growthWaterThresholds, int safeWaterAtFlowering,
+                                     int declineWaterThreshold) {
+        if (growthWaterThresholds.length < GROWTH_STAGE_COUNT - 1) {
+            throw new IllegalArgumentException("Expected a threshold for each of the first "
+                    + (GROWTH_STAGE_COUNT - 1) + " growth stages");
+        }
+        for (int stage = 0; stage < GROWTH_STAGE_COUNT - 1; stage++) {
+            requireWater("Growth threshold for stage " + stage, growthWaterThresholds[stage], MAX_WATER);
+        }
+        requireWater("Safe water at flowering", safeWaterAtFlowering, MAX_WATER - 1);
+        requireWater("Decline threshold", declineWaterThreshold, MAX_WATER);
+
+        byte[] transitions = new byte[STATE_COUNT];
+        byte[] outcomes = new byte[STATE_COUNT];
+        for (int stage = 0; stage < TOTAL_STAGE_COUNT; stage++) {
+            for (int water = 0; water <= MAX_WATER; water++) {
+                int watered = water + 1;
+                int next;
+                int outcome;
+                if (stage < GROWTH_STAGE_COUNT - 1) {
+                    boolean grows = watered >= growthWaterThresholds[stage];
+                    next = grows ? pack(stage + 1, 0) : pack(stage, watered);
+                    outcome = grows ? WaterOutcome.GREW : WaterOutcome.ABSORBED;
+                } else if (stage == GROWTH_STAGE_COUNT && watered <= safeWaterAtFlowering) {
+                    next = pack(stage, watered);
+                    outcome = WaterOutcome.ABSORBED;
+                } else if (watered < declineWaterThreshold) {
+                    next = pack(stage, watered);
+                    outcome = WaterOutcome.ABSORBED;
+                } else if (stage >= DEAD_STAGE) {
+                    next = pack(stage, watered);
+                    outcome = WaterOutcome.ALREADY_DEAD;
+                } else {
+                    next = pack(stage + 1, 0);
+                    outcome = stage + 1 == DEAD_STAGE ? WaterOutcome.DIED : WaterOutcome.DECLINED;
+                }
+                transitions[pack(stage, water)] = (byte) next;
+                outcomes[pack(stage, water)] = (byte) outcome;
+            }
+        }
+        return new PlantRules(transitions, outcomes, growthWaterThresholds.clone(),
+                safeWaterAtFlowering, declineWaterThreshold);
+    }
+
+    private static void requireWater(String name, int value, int max) {
+        if (value > max) {
+            throw new IllegalArgumentException(name + " must not exceed " + max + " but was " + value);
+        }
+    }
+
+    /**
+     * Apply one watering to a packed state.
+     * @param state packed state
+     * @return packed state after watering
+     */
+    public int next(int state) {
+        return transitions[state];
+    }
+
+    /**
+     * @param state packed state before watering
+     * @return {@link WaterOutcome} code of watering that state
+     */
+    public int outcome(int state) {
+        return outcomes[state];
+    }
+
+    public int[] getGrowthWaterThresholds() {
+        return growthWaterThresholds.clone();
+    }
+
+    public int getSafeWaterAtFlowering() {
+        return safeWaterAtFlowering;
+    }
+
+    public int getDeclineWaterThreshold() {
+        return declineWaterThreshold;
+    }
+
+    public static int pack(int stage, int water) {
+        return (stage << WATER_BITS) | Math.min(water, MAX_WATER);
+    }
+
+    public static int stageOf(int state) {
+        return state >>> WATER_BITS;
+    }
+
+    public static int waterOf(int state) {
+        return state & MAX_WATER;
+    }
+}
@@ -0,0 +1,224 @@
+package com.plantgrowth;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Headless server hosting named plants for many concurrent sessions, bound
+ * to the loopback interface. The protocol is one command per line:
+ * {@code WATER <plant>}, {@code RESET <plant>}, {@code STATUS <plant>} or
+ * {@code QUIT}. Replies are one line each: {@code <OUTCOME> <stage> <water>}
+ * for a watering, {@code OK <stage> <water>} for reset and status, and
+ * {@code ERROR <message>} otherwise. Plants are created on first use with the
+ * rules of the GUI simulator and are shared by every session that names them;
+ * they are {@link AtomicPlant}s, so sessions watering the same plant never block.
+ *
+ * Each connection is served by its own thread from
+ * {@link #newSessionExecutor()}: a virtual thread where the JDK has them and
+ * a small-stack platform thread otherwise.
+ */
+public final class PlantServer implements Closeable {
+    private static final int MAX_NAME_LENGTH = 64;
+    private static final int BACKLOG = 4096;
+    private static final int BUFFER_SIZE = 4096;
+    private static final long PLATFORM_THREAD_STACK = 256 * 1024;
+
+    private final ConcurrentHashMap<String, AtomicPlant> plants = new ConcurrentHashMap<>();
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions = newSessionExecutor();
+    private final Thread acceptor;
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * Bind to a loopback port and start accepting sessions.
+     * @param port port number, or 0 for any free port
+     */
+    public PlantServer(int port) throws IOException {
+        serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        acceptor = new Thread(this::acceptSessions, "plant-server-acceptor");
+        acceptor.start();
+    }
+
+    /**
+     * @return a thread-per-task executor using virtual threads when the
+     *         running JDK provides them
+     */
+    static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(null, task, "plant-session-" + count.incrementAndGet(),
+                        PLATFORM_THREAD_STACK);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getPlantCount() {
+        return plants.size();
+    }
+
+    public int getOpenSessions() {
+        return openSockets.size();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    private void acceptSessions() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                // Registered before the session starts, so close() reaches sessions not yet running
+                openSockets.add(socket);
+                if (serverSocket.isClosed()) {
+                    // close() may have swept the open sockets before this one was added
+                    turnAway(socket);
+                    continue;
+                }
+                try {
+                    sessions.execute(() -> serve(socket));
+                } catch (RejectedExecutionException e) {
+                    // The server is closing; turn the client away rather than leak its socket
+                    turnAway(socket);
+                }
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void turnAway(Socket socket) throws IOException {
+        openSockets.remove(socket);
+        socket.close();
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII), BUFFER_SIZE);
+             BufferedWriter out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII), BUFFER_SIZE)) {
+            socket.setTcpNoDelay(true);
+            String line;
+            while ((line = in.readLine()) != null) {
+                String reply = handle(line.trim());
+                if (reply == null) {
+                    break;
+                }
+                out.write(reply);
+                out.write('\n');
+                // Pipelined commands are answered in one write
+                if (!in.ready()) {
+                    out.flush();
+                }
+            }
+        } catch (SocketException e) {
+            // Client went away
+        } catch (IOException e) {
+            System.err.println("Session failed: " + e.getMessage());
+        } finally {
+            openSockets.remove(socket);
+        }
+    }
+
+    /**
+     * @return reply line, or null to end the session
+     */
+    String handle(String command) {
+        requests.increment();
+        int space = command.indexOf(' ');
+        String verb = (space < 0 ? command : command.substring(0, space)).toUpperCase();
+        String plantName = space < 0 ? "" : command.substring(space + 1).trim();
+        switch (verb) {
+            case "QUIT" -> {
+                return null;
+            }
+            case "WATER", "RESET", "STATUS" -> { }
+            default -> {
+                return "ERROR unknown command '" + verb + "'";
+            }
+        }
+        if (plantName.isEmpty() || plantName.length() > MAX_NAME_LENGTH) {
+            return "ERROR expected " + verb + " <plant> with a name of 1 to " + MAX_NAME_LENGTH + " characters";
+        }
+
+        AtomicPlant plant = plants.computeIfAbsent(plantName, key -> new AtomicPlant(PlantRules.GUI));
+        if (verb.equals("WATER")) {
+            long previous = plant.waterAndGetPrevious();
+            int state = AtomicPlant.stateOf(previous);
+            return WaterOutcome.name(PlantRules.GUI.outcome(state)) + ' ' + describe(PlantRules.GUI.next(state));
+        }
+        if (verb.equals("RESET")) {
+            plant.reset();
+            return "OK " + describe(0);
+        }
+        return "OK " + describe(plant.getState());
+    }
+
+    /**
+     * Stage and water of one state, so a reply never mixes two operations.
+     */
+    private static String describe(int state) {
+        return PlantRules.stageOf(state) + " " + PlantRules.waterOf(state);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        // Blocked reads ignore interrupts, so end every session by closing its socket
+        for (Socket socket : openSockets) {
+            socket.close();
+        }
+        sessions.shutdownNow();
+        try {
+            acceptor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Usage: {@code PlantServer [port]}; runs until the process is stopped.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7070;
+        PlantServer server = new PlantServer(port);
+        System.out.println("Plant server listening on " + InetAddress.getLoopbackAddress().getHostAddress()
+                + ":" + server.getPort());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            } catch (IOException e) {
+                // Exiting anyway
+            }
+        }));
+    }
+}
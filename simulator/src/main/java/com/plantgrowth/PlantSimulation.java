@@ -0,0 +1,219 @@
+package com.plantgrowth;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs a single plant on its own simulation thread, so a front end never
+ * mutates the model or waits for it. Commands from any thread are queued and
+ * applied in order. The simulation thread is the only writer: it works on
+ * the engine (the back buffer) and after each command publishes an immutable
+ * {@link Snapshot} (the front buffer) with one volatile write. Every snapshot
+ * is also queued, so a reader can announce the outcome of each command while
+ * a burst of commands still collapses into a single pick-up; the publish
+ * listener runs only when the previous snapshots have already been taken.
+ */
+final class PlantSimulation implements AutoCloseable {
+
+    /**
+     * The plant as it was after one command.
+     */
+    static final class Snapshot {
+        /** Number of commands applied; 0 for the initial state. */
+        final long sequence;
+        /** Stage and water packed as described in {@link PlantRules}. */
+        final int state;
+        /** {@link WaterOutcome} of the last watering, or -1 after a reset or at start. */
+        final int outcome;
+        /** Over-watering message of the last watering, or null. */
+        final String message;
+        /** Rules in force when the command was applied. */
+        final PlantRules rules;
+
+        Snapshot(long sequence, int state, int outcome, String message, PlantRules rules) {
+            this.sequence = sequence;
+            this.state = state;
+            this.outcome = outcome;
+            this.message = message;
+            this.rules = rules;
+        }
+
+        int getStage() {
+            return PlantRules.stageOf(state);
+        }
+
+        int getWaterAtCurrentStage() {
+            return PlantRules.waterOf(state);
+        }
+    }
+
+    static final int NO_OUTCOME = -1;
+
+    private final PlantEngine engine;
+    private final GardenFile stateFile;
+    private final PlantJournal journal;
+    private final String diedMessage;
+    private final String alreadyDeadMessage;
+    private final Runnable onPublish;
+    private final ExecutorService thread = Executors.newSingleThreadExecutor(task -> {
+        Thread simulation = new Thread(task, "plant-simulation");
+        simulation.setDaemon(true);
+        return simulation;
+    });
+    private final AtomicBoolean published = new AtomicBoolean();
+    private final ConcurrentLinkedQueue<Snapshot> untaken = new ConcurrentLinkedQueue<>();
+
+    private volatile Snapshot front;
+    private long sequence;
+
+    /**
+     * @param rules rules to follow, including later swaps
+     * @param stateFile single-plant save file to resume from and save to after every command, or null
+     * @param journal history to resume from and record every command in, or null; takes
+     *        precedence over the state file when resuming and is closed with the simulation
+     * @param diedMessage message published when a watering kills the plant
+     * @param alreadyDeadMessage message published when a dead plant is watered
+     * @param onPublish called on the simulation thread when a snapshot is
+     *        published and the previous one has been taken; must not block
+     */
+    PlantSimulation(LiveRules rules, GardenFile stateFile, PlantJournal journal, String diedMessage,
+                    String alreadyDeadMessage, Runnable onPublish) {
+        this.engine = new PlantEngine(rules);
+        this.stateFile = stateFile;
+        this.journal = journal;
+        this.diedMessage = diedMessage;
+        this.alreadyDeadMessage = alreadyDeadMessage;
+        this.onPublish = onPublish;
+        if (journal != null) {
+            engine.setState(journal.getState());
+        } else if (stateFile != null) {
+            try {
+                engine.setState(stateFile.getState(0));
+            } catch (IOException e) {
+                System.err.println("Could not restore the plant: " + e.getMessage());
+            }
+        }
+        front = new Snapshot(0, engine.getState(), NO_OUTCOME, null, engine.getRules());
+    }
+
+    void water() {
+        thread.execute(() -> {
+            int previousState = engine.getState();
+            int outcome = engine.water();
+            String message = overWateringMessage(outcome);
+            if (message != null) {
+                SimulatorEvents.overWatered(outcome, message);
+            }
+            if (journal != null) {
+                try {
+                    journal.watered(previousState, 1, engine);
+                } catch (IOException e) {
+                    System.err.println("Could not record the watering: " + e.getMessage());
+                }
+            }
+            publish(outcome, message);
+        });
+    }
+
+    void reset() {
+        thread.execute(() -> {
+            engine.reset();
+            if (journal != null) {
+                try {
+                    journal.reset();
+                } catch (IOException e) {
+                    System.err.println("Could not record the reset: " + e.getMessage());
+                }
+            }
+            publish(NO_OUTCOME, null);
+        });
+    }
+
+    /**
+     * @return message for a fatal {@link WaterOutcome}, or null
+     */
+    private String overWateringMessage(int outcome) {
+        return switch (outcome) {
+            case WaterOutcome.DIED -> diedMessage;
+            case WaterOutcome.ALREADY_DEAD -> alreadyDeadMessage;
+            default -> null;
+        };
+    }
+
+    /**
+     * Move every snapshot published since the last call into {@code into},
+     * oldest first, and mark them taken, so the next publish calls the listener again.
+     * @return whether any snapshot was moved
+     */
+    boolean takePublished(Collection<Snapshot> into) {
+        published.set(false);
+        boolean any = false;
+        for (Snapshot snapshot = untaken.poll(); snapshot != null; snapshot = untaken.poll()) {
+            into.add(snapshot);
+            any = true;
+        }
+        return any;
+    }
+
+    /**
+     * @return the newest snapshot without marking it taken
+     */
+    Snapshot latest() {
+        return front;
+    }
+
+    private void publish(int outcome, String message) {
+        save();
+        Snapshot snapshot = new Snapshot(++sequence, engine.getState(), outcome, message, engine.getRules());
+        // Queued first, so a reader that sees the new front also finds it in the queue
+        untaken.add(snapshot);
+        front = snapshot;
+        if (published.compareAndSet(false, true)) {
+            onPublish.run();
+        }
+    }
+
+    private void save() {
+        if (stateFile != null) {
+            try {
+                stateFile.setRules(engine.getRules());
+                stateFile.setState(0, engine.getState());
+            } catch (IOException e) {
+                System.err.println("Could not save the plant: " + e.getMessage());
+            }
+        }
+        if (journal != null) {
+            try {
+                journal.flush();
+            } catch (IOException e) {
+                System.err.println("Could not write the journal: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Apply the commands already queued, then stop the simulation thread and close the journal.
+     * If interrupted while waiting, the journal is still closed and the interrupt flag is restored.
+     */
+    @Override
+    public void close() {
+        thread.shutdown();
+        try {
+            thread.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                System.err.println("Could not close the journal: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.plantgrowth;
+
+import java.util.Arrays;
+
+/**
+ * Answers questions about a rule set by working on its transition table
+ * instead of simulating plants. The state space has only
+ * {@link PlantRules#STATE_COUNT} states and watering is deterministic, so the
+ * number of waterings from any state to any stage is memoised up front, and
+ * the outcome of a random watering policy is computed exactly as a
+ * probability distribution over states, which covers every possible watering
+ * sequence at once.
+ */
+public final class PolicyExplorer {
+    /** Marks a stage that cannot be reached from a state. */
+    public static final int UNREACHABLE = -1;
+
+    private final PlantRules rules;
+    /** Waterings from each state until the plant first reaches each stage. */
+    private final int[][] wateringsToStage;
+
+    public PolicyExplorer(PlantRules rules) {
+        this.rules = rules;
+        this.wateringsToStage = new int[PlantRules.TOTAL_STAGE_COUNT][PlantRules.STATE_COUNT];
+        for (int[] distances : wateringsToStage) {
+            Arrays.fill(distances, Integer.MIN_VALUE);
+        }
+        for (int stage = 0; stage < PlantRules.TOTAL_STAGE_COUNT; stage++) {
+            for (int state = 0; state < PlantRules.STATE_COUNT; state++) {
+                distance(stage, state);
+            }
+        }
+    }
+
+    private int distance(int stage, int state) {
+        int[] distances = wateringsToStage[stage];
+        if (distances[state] != Integer.MIN_VALUE) {
+            return distances[state];
+        }
+        if (PlantRules.stageOf(state) == stage) {
+            return distances[state] = 0;
+        }
+        int next = rules.next(state);
+        // Stages never go backwards and water saturates, so the only cycles are fixed points
+        if (next == state || PlantRules.stageOf(next) > stage) {
+            return distances[state] = UNREACHABLE;
+        }
+        int remaining = distance(stage, next);
+        return distances[state] = remaining == UNREACHABLE ? UNREACHABLE : remaining + 1;
+    }
+
+    public PlantRules getRules() {
+        return rules;
+    }
+
+    /**
+     * @return waterings needed to bring a plant in {@code state} into {@code stage},
+     *         or {@link #UNREACHABLE}
+     */
+    public int wateringsToStage(int state, int stage) {
+        return wateringsToStage[stage][state];
+    }
+
+    /**
+     * @return fewest waterings that take a seed into full bloom
+     */
+    public int minWateringsToBloom() {
+        return wateringsToStage(0, PlantRules.GROWTH_STAGE_COUNT - 1);
+    }
+
+    /**
+     * @return most waterings a seed survives; the next one kills it, or
+     *         {@link Integer#MAX_VALUE} if no number of waterings is fatal
+     */
+    public int maxSafeWaterings() {
+        int toDeath = wateringsToStage(0, PlantRules.DEAD_STAGE);
+        return toDeath == UNREACHABLE ? Integer.MAX_VALUE : toDeath - 1;
+    }
+
+    /**
+     * @return every state a plant passes through when watered repeatedly from {@code state},
+     *         in order, ending with the state it settles in
+     */
+    public int[] reachableStates(int state) {
+        int[] path = new int[PlantRules.STATE_COUNT];
+        int length = 0;
+        boolean[] seen = new boolean[PlantRules.STATE_COUNT];
+        while (!seen[state]) {
+            seen[state] = true;
+            path[length++] = state;
+            state = rules.next(state);
+        }
+        return Arrays.copyOf(path, length);
+    }
+
+    /**
+     * Per-round probabilities of a policy that waters {@code [0, maxWaterings]}
+     * times uniformly at random, as {@link WateringSchedule#random} does.
+     */
+    public static double[] uniformPolicy(int maxWaterings) {
+        if (maxWaterings < 0) {
+            throw new IllegalArgumentException("Max waterings must not be negative: " + maxWaterings);
+        }
+        double[] policy = new double[maxWaterings + 1];
+        Arrays.fill(policy, 1.0 / policy.length);
+        return policy;
+    }
+
+    /**
+     * Exact result of applying a random policy for a number of rounds.
+     * @param policy probability of watering {@code k} times in a round, at index {@code k}
+     * @param rounds number of independent rounds
+     * @param state packed state every plant starts from
+     */
+    public Distribution explore(double[] policy, int rounds, int state) {
+        double[] current = new double[PlantRules.STATE_COUNT];
+        double[] next = new double[PlantRules.STATE_COUNT];
+        double[] roundEnd = new double[PlantRules.STATE_COUNT];
+        double[] expectedOutcomes = new double[WaterOutcome.COUNT];
+        double[] distribution = new double[PlantRules.STATE_COUNT];
+        distribution[state] = 1.0;
+
+        // Probability that a round waters more than k times
+        double[] tail = new double[policy.length];
+        double remaining = 1.0;
+        for (int k = 0; k < policy.length; k++) {
+            remaining -= policy[k];
+            tail[k] = Math.max(0.0, remaining);
+        }
+
+        for (int round = 0; round < rounds; round++) {
+            System.arraycopy(distribution, 0, current, 0, current.length);
+            Arrays.fill(roundEnd, 0.0);
+            for (int k = 0; k < policy.length; k++) {
+                for (int s = 0; s < current.length; s++) {
+                    roundEnd[s] += policy[k] * current[s];
+                }
+                if (tail[k] == 0.0) {
+                    break;
+                }
+                // Plants watered at least k + 1 times get one more watering
+                Arrays.fill(next, 0.0);
+                for (int s = 0; s < current.length; s++) {
+                    double p = current[s];
+                    if (p != 0.0) {
+                        expectedOutcomes[rules.outcome(s)] += tail[k] * p;
+                        next[rules.next(s)] += p;
+                    }
+                }
+                double[] swap = current;
+                current = next;
+                next = swap;
+            }
+            System.arraycopy(roundEnd, 0, distribution, 0, distribution.length);
+        }
+        return new Distribution(distribution, expectedOutcomes, PlantRules.stageOf(state) == PlantRules.DEAD_STAGE);
+    }
+
+    /** State probabilities and expected outcome counts after a policy run. */
+    public static final class Distribution {
+        private final double[] states;
+        private final double[] expectedOutcomes;
+        private final boolean startedDead;
+
+        private Distribution(double[] states, double[] expectedOutcomes, boolean startedDead) {
+            this.states = states;
+            this.expectedOutcomes = expectedOutcomes;
+            this.startedDead = startedDead;
+        }
+
+        public double getStateProbability(int state) {
+            return states[state];
+        }
+
+        public double[] getStageProbabilities() {
+            double[] stages = new double[PlantRules.TOTAL_STAGE_COUNT];
+            for (int state = 0; state < states.length; state++) {
+                stages[PlantRules.stageOf(state)] += states[state];
+            }
+            return stages;
+        }
+
+        /**
+         * @return probability that the plant died during the run
+         */
+        public double getDeathProbability() {
+            return startedDead ? 0.0 : getStageProbabilities()[PlantRules.DEAD_STAGE];
+        }
+
+        /**
+         * @param outcome {@link WaterOutcome} code
+         * @return expected number of waterings with that outcome per plant
+         */
+        public double getExpectedOutcomes(int outcome) {
+            return expectedOutcomes[outcome];
+        }
+
+        public double getExpectedWaterings() {
+            double total = 0;
+            for (double count : expectedOutcomes) {
+                total += count;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Print the answers for the GUI and console rule sets, then check the
+     * exact distribution of a random policy against a batch simulation.
+     * Usage: {@code PolicyExplorer [plants] [rounds] [maxWateringsPerRound]}
+     */
+    public static void main(String[] args) {
+        int plants = args.length > 0 ? Integer.parseInt(args[0]) : 4_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int maxWaterings = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+
+        PlantRules gui = PlantRules.GUI;
+        PlantRules console = PlantRules.CONSOLE;
+        for (PlantRules rules : new PlantRules[] {gui, console}) {
+            String label = rules == gui ? "GUI rules" : "Console rules";
+            long start = System.nanoTime();
+            PolicyExplorer explorer = new PolicyExplorer(rules);
+            Distribution exact = explorer.explore(uniformPolicy(maxWaterings), rounds, 0);
+            double millis = (System.nanoTime() - start) / 1e6;
+
+            System.out.println(label + ":");
+            System.out.println("  Minimum waterings to bloom: " + explorer.minWateringsToBloom());
+            System.out.println("  Maximum safe waterings:     " + explorer.maxSafeWaterings());
+            System.out.println("  States reached from a seed: " + explorer.reachableStates(0).length);
+            System.out.printf("  Exact distribution of %d rounds of 0..%d waterings (%.3f ms):%n",
+                    rounds, maxWaterings, millis);
+
+            start = System.nanoTime();
+            Garden garden = new Garden(rules, plants);
+            BatchResult sampled = BatchSimulator.runParallel(garden, WateringSchedule.random(7L, maxWaterings), rounds);
+            millis = (System.nanoTime() - start) / 1e6;
+
+            double[] stages = exact.getStageProbabilities();
+            double worst = 0;
+            for (int stage = 0; stage < stages.length; stage++) {
+                double observed = (double) sampled.getStageCount(stage) / plants;
+                worst = Math.max(worst, Math.abs(observed - stages[stage]));
+                System.out.printf("    stage %d: exact %.5f  sampled %.5f%n", stage, stages[stage], observed);
+            }
+            System.out.printf("    deaths: exact %.5f  sampled %.5f%n", exact.getDeathProbability(),
+                    (double) sampled.getDeaths() / plants);
+            for (int outcome = 0; outcome < WaterOutcome.COUNT; outcome++) {
+                System.out.printf("    expected %-12s %.4f%n", WaterOutcome.name(outcome),
+                        exact.getExpectedOutcomes(outcome));
+            }
+            System.out.printf("  Simulating %,d plants took %.1f ms; largest stage difference %.5f%n",
+                    plants, millis, worst);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.plantgrowth;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Reads watering rules from a properties file and compiles them with
+ * {@link PlantRules#compile}. Example:
+ * <pre>
+ * # Water needed to leave the seed, sprout and young plant stages
+ * growth.thresholds = 2, 2, 2
+ * # Water a wilting plant absorbs before it declines further
+ * flowering.safe = 3
+ * # Water needed to advance each decline stage
+ * decline.threshold = 1
+ * </pre>
+ */
+public final class RulesFile {
+    static final String GROWTH_THRESHOLDS = "growth.thresholds";
+    static final String FLOWERING_SAFE = "flowering.safe";
+    static final String DECLINE_THRESHOLD = "decline.threshold";
+
+    private RulesFile() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if a key is missing or a value is out of range
+     */
+    public static PlantRules load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        try {
+            return parse(properties);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(path + ": " + e.getMessage(), e);
+        }
+    }
+
+    public static PlantRules parse(Properties properties) {
+        String[] values = require(properties, GROWTH_THRESHOLDS).split(",");
+        if (values.length != PlantRules.GROWTH_STAGE_COUNT - 1) {
+            throw new IllegalArgumentException(GROWTH_THRESHOLDS + " needs " + (PlantRules.GROWTH_STAGE_COUNT - 1)
+                    + " comma-separated values but has " + values.length);
+        }
+        int[] thresholds = new int[PlantRules.GROWTH_STAGE_COUNT];
+        for (int stage = 0; stage < values.length; stage++) {
+            thresholds[stage] = parseWater(GROWTH_THRESHOLDS, values[stage]);
+        }
+        // A flowering plant never grows further
+        thresholds[PlantRules.GROWTH_STAGE_COUNT - 1] = Integer.MAX_VALUE;
+        return PlantRules.compile(thresholds, parseWater(FLOWERING_SAFE, require(properties, FLOWERING_SAFE)),
+                parseWater(DECLINE_THRESHOLD, require(properties, DECLINE_THRESHOLD)));
+    }
+
+    private static String require(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing " + key);
+        }
+        return value;
+    }
+
+    private static int parseWater(String key, String value) {
+        try {
+            int water = Integer.parseInt(value.trim());
+            if (water >= 0) {
+                return water;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(key + " must be a non-negative whole number but was '"
+                + value.trim() + "'");
+    }
+}
@@ -0,0 +1,176 @@
+package com.plantgrowth;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events for the simulator's hot paths, and the hooks
+ * that emit them together with {@link SimulatorMetrics}. A recorder listener
+ * keeps a flag saying whether any recording is running, so with Flight
+ * Recorder off a hook costs at most a stage comparison and a field read and
+ * never allocates an event.
+ */
+final class SimulatorEvents {
+    private static volatile boolean recording;
+
+    static {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(FlightRecorder recorder) {
+                update(recorder);
+            }
+
+            @Override
+            public void recordingStateChanged(Recording changed) {
+                update(FlightRecorder.getFlightRecorder());
+            }
+
+            private void update(FlightRecorder recorder) {
+                recording = recorder.getRecordings().stream()
+                        .anyMatch(r -> r.getState() == RecordingState.RUNNING);
+            }
+        });
+    }
+
+    private SimulatorEvents() {
+    }
+
+    @Name("com.plantgrowth.StageTransition")
+    @Label("Stage Transition")
+    @Category("Plant Growth")
+    @StackTrace(false)
+    static final class StageTransition extends Event {
+        @Label("From Stage")
+        int fromStage;
+        @Label("To Stage")
+        int toStage;
+        @Label("Outcome")
+        String outcome;
+    }
+
+    @Name("com.plantgrowth.OverWatering")
+    @Label("Over-Watering")
+    @Description("A watering killed the plant or was applied to a dead plant")
+    @Category("Plant Growth")
+    static final class OverWatering extends Event {
+        @Label("Outcome")
+        String outcome;
+        @Label("Message")
+        String message;
+    }
+
+    @Name("com.plantgrowth.PanelPaint")
+    @Label("Plant Panel Paint")
+    @Category({"Plant Growth", "Rendering"})
+    @StackTrace(false)
+    static final class PanelPaint extends Event {
+        @Label("Stage")
+        int stage;
+        @Label("Animated")
+        boolean animated;
+        @Label("Width")
+        int width;
+        @Label("Height")
+        int height;
+    }
+
+    @Name("com.plantgrowth.FrameDrop")
+    @Label("Animation Frame Drop")
+    @Description("An animation tick was skipped because the previous frame was still pending")
+    @Category({"Plant Growth", "Rendering"})
+    @StackTrace(false)
+    static final class FrameDrop extends Event {
+        @Label("Stage")
+        int stage;
+        @Label("Dropped Frames")
+        int droppedFrames;
+    }
+
+    /**
+     * Record one watering of a single plant.
+     */
+    static void watered(int previousState, int outcome, int nextState) {
+        if (SimulatorMetrics.ENABLED) {
+            SimulatorMetrics.INSTANCE.recordWatering(outcome, nextState);
+        }
+        if (recording && PlantRules.stageOf(previousState) != PlantRules.stageOf(nextState)) {
+            stageChanged(previousState, outcome, nextState);
+        }
+    }
+
+    private static void stageChanged(int previousState, int outcome, int nextState) {
+        StageTransition event = new StageTransition();
+        if (event.shouldCommit()) {
+            event.fromStage = PlantRules.stageOf(previousState);
+            event.toStage = PlantRules.stageOf(nextState);
+            event.outcome = WaterOutcome.name(outcome);
+            event.commit();
+        }
+    }
+
+    /**
+     * Record an {@link OverWateringException} about to be thrown.
+     */
+    static void overWatered(int outcome, String message) {
+        if (!recording) {
+            return;
+        }
+        OverWatering event = new OverWatering();
+        if (event.shouldCommit()) {
+            event.outcome = WaterOutcome.name(outcome);
+            event.message = message;
+            event.commit();
+        }
+    }
+
+    /**
+     * @return paint event begun now, or null when no recording is running
+     */
+    static PanelPaint paintStarted() {
+        if (!recording) {
+            return null;
+        }
+        PanelPaint event = new PanelPaint();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record a finished paint begun with {@link #paintStarted()}.
+     */
+    static void painted(PanelPaint event, long nanos, int stage, boolean animated, int width, int height) {
+        if (SimulatorMetrics.ENABLED) {
+            SimulatorMetrics.INSTANCE.recordPaint(nanos);
+        }
+        if (event != null && event.shouldCommit()) {
+            event.stage = stage;
+            event.animated = animated;
+            event.width = width;
+            event.height = height;
+            event.commit();
+        }
+    }
+
+    static void frameDropped(int stage, int droppedFrames) {
+        if (SimulatorMetrics.ENABLED) {
+            SimulatorMetrics.INSTANCE.recordDroppedFrame();
+        }
+        if (!recording) {
+            return;
+        }
+        FrameDrop event = new FrameDrop();
+        if (event.shouldCommit()) {
+            event.stage = stage;
+            event.droppedFrames = droppedFrames;
+            event.commit();
+        }
+    }
+}
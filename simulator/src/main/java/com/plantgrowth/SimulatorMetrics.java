@@ -0,0 +1,239 @@
+package com.plantgrowth;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counters for the simulator hot paths, published as the JMX MBean
+ * {@code com.plantgrowth:type=SimulatorMetrics}. Collection is off unless the
+ * JVM is started with {@code -Dplantgrowth.metrics=true}; {@link #ENABLED} is
+ * a constant, so disabled call sites are compiled away. Bulk sweeps add their
+ * counts once per call rather than once per plant. Paint times go into a
+ * log-scale histogram with four buckets per power of two, so percentiles are
+ * accurate to within about 25%.
+ */
+public final class SimulatorMetrics implements SimulatorMetricsMBean {
+    static final boolean ENABLED = Boolean.getBoolean("plantgrowth.metrics");
+    static final SimulatorMetrics INSTANCE = new SimulatorMetrics();
+    public static final String OBJECT_NAME = "com.plantgrowth:type=SimulatorMetrics";
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = 64 * SUB_BUCKETS;
+
+    private final LongAdder waterings = new LongAdder();
+    private final LongAdder deaths = new LongAdder();
+    private final LongAdder[] stageEntries = new LongAdder[PlantRules.TOTAL_STAGE_COUNT];
+    private final AtomicLongArray paintBuckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong paintMaxNanos = new AtomicLong();
+    private final LongAdder droppedFrames = new LongAdder();
+
+    private long sampleNanos = System.nanoTime();
+    private long sampleWaterings;
+    private double wateringsPerSecond;
+
+    static {
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                System.err.println("Could not register " + OBJECT_NAME + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private SimulatorMetrics() {
+        for (int stage = 0; stage < stageEntries.length; stage++) {
+            stageEntries[stage] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return the shared instance; collecting only if {@link #isEnabled()}
+     */
+    public static SimulatorMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    void recordWatering(int outcome, int nextState) {
+        waterings.increment();
+        switch (outcome) {
+            case WaterOutcome.GREW, WaterOutcome.DECLINED -> stageEntries[PlantRules.stageOf(nextState)].increment();
+            case WaterOutcome.DIED -> {
+                stageEntries[PlantRules.DEAD_STAGE].increment();
+                deaths.increment();
+            }
+            default -> { }
+        }
+    }
+
+    /**
+     * Record a bulk call in one update.
+     * @param entered plants per stage that ended the call in that stage having started in another
+     */
+    void recordBulk(long waterings, long deaths, long[] entered) {
+        this.waterings.add(waterings);
+        this.deaths.add(deaths);
+        for (int stage = 0; stage < entered.length; stage++) {
+            if (entered[stage] != 0) {
+                stageEntries[stage].add(entered[stage]);
+            }
+        }
+    }
+
+    /**
+     * Record a sweep that watered {@code perState[s]} plants in state {@code s}
+     * {@code times} times each, taking them to {@code table[s]}. A plant counts
+     * as entering only the stage it ends in, not those it passed through.
+     */
+    void recordSweep(long[] perState, byte[] table, int times) {
+        long plants = 0;
+        long died = 0;
+        long[] entered = new long[PlantRules.TOTAL_STAGE_COUNT];
+        for (int state = 0; state < perState.length; state++) {
+            long count = perState[state];
+            plants += count;
+            int stage = PlantRules.stageOf(table[state]);
+            if (count != 0 && stage != PlantRules.stageOf(state)) {
+                entered[stage] += count;
+                if (stage == PlantRules.DEAD_STAGE) {
+                    died += count;
+                }
+            }
+        }
+        recordBulk(plants * times, died, entered);
+    }
+
+    void recordPaint(long nanos) {
+        paintBuckets.incrementAndGet(bucketOf(nanos));
+        paintMaxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    void recordDroppedFrame() {
+        droppedFrames.increment();
+    }
+
+    @Override
+    public long getWaterings() {
+        return waterings.sum();
+    }
+
+    @Override
+    public synchronized double getWateringsPerSecond() {
+        long now = System.nanoTime();
+        if (now - sampleNanos >= 1_000_000_000L) {
+            long count = waterings.sum();
+            wateringsPerSecond = (count - sampleWaterings) * 1e9 / (now - sampleNanos);
+            sampleNanos = now;
+            sampleWaterings = count;
+        }
+        return wateringsPerSecond;
+    }
+
+    @Override
+    public long getDeaths() {
+        return deaths.sum();
+    }
+
+    @Override
+    public long[] getStageHistogram() {
+        long[] histogram = new long[stageEntries.length];
+        for (int stage = 0; stage < histogram.length; stage++) {
+            histogram[stage] = stageEntries[stage].sum();
+        }
+        return histogram;
+    }
+
+    @Override
+    public long getPaints() {
+        long paints = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            paints += paintBuckets.get(bucket);
+        }
+        return paints;
+    }
+
+    @Override
+    public double getPaintTimeP50Micros() {
+        return paintPercentileNanos(0.50) / 1e3;
+    }
+
+    @Override
+    public double getPaintTimeP99Micros() {
+        return paintPercentileNanos(0.99) / 1e3;
+    }
+
+    @Override
+    public double getPaintTimeMaxMicros() {
+        return paintMaxNanos.get() / 1e3;
+    }
+
+    @Override
+    public long getDroppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    @Override
+    public synchronized void reset() {
+        waterings.reset();
+        deaths.reset();
+        for (LongAdder entries : stageEntries) {
+            entries.reset();
+        }
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            paintBuckets.set(bucket, 0);
+        }
+        paintMaxNanos.set(0);
+        droppedFrames.reset();
+        sampleNanos = System.nanoTime();
+        sampleWaterings = 0;
+        wateringsPerSecond = 0;
+    }
+
+    /**
+     * @return upper bound of the bucket holding the given fraction of paints, or 0 if none
+     */
+    private long paintPercentileNanos(double fraction) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts[bucket] = paintBuckets.get(bucket);
+            total += counts[bucket];
+        }
+        long rank = (long) Math.ceil(fraction * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank && seen > 0) {
+                return Math.min(upperBound(bucket), paintMaxNanos.get());
+            }
+        }
+        return 0;
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,32 @@
+package com.plantgrowth;
+
+/**
+ * JMX view of {@link SimulatorMetrics}.
+ */
+public interface SimulatorMetricsMBean {
+    long getWaterings();
+
+    /**
+     * @return waterings per second since the previous sample, sampled at most once a second
+     */
+    double getWateringsPerSecond();
+
+    long getDeaths();
+
+    /**
+     * @return number of times a plant entered each stage, indexed by stage
+     */
+    long[] getStageHistogram();
+
+    long getPaints();
+
+    double getPaintTimeP50Micros();
+
+    double getPaintTimeP99Micros();
+
+    double getPaintTimeMaxMicros();
+
+    long getDroppedFrames();
+
+    void reset();
+}
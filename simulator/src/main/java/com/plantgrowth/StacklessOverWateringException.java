@@ -0,0 +1,20 @@
+package com.plantgrowth;
+
+/**
+ * OverWateringException that skips stack trace capture and suppression.
+ * Intended for callers that still want exception-style control flow in bulk
+ * runs, where filling in a stack trace for every death would dominate.
+ * Thrown by {@link PlantEngine#waterOrThrow(String, String, boolean)} and
+ * {@link AtomicPlant#waterOrThrow(String, String, boolean)} when asked not to
+ * capture a stack trace.
+ */
+public class StacklessOverWateringException extends OverWateringException {
+    /**
+     * Create exception with message and outcome.
+     * @param message detail message
+     * @param outcome {@link WaterOutcome} code that caused the exception
+     */
+    public StacklessOverWateringException(String message, int outcome) {
+        super(message, outcome, false);
+    }
+}
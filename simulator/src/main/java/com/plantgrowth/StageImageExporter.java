@@ -0,0 +1,133 @@
+package com.plantgrowth;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.imageio.ImageIO;
+
+/**
+ * Headless exporter that renders every plant stage and every frame of the
+ * pulse animation at several resolutions straight to PNG files, using the
+ * same drawing code as PlantPanel. Frames are rendered in parallel and each
+ * one is encoded and written as soon as it is drawn, so memory use is bounded
+ * by the thread count rather than the number of frames.
+ */
+public final class StageImageExporter {
+    private static final Color BACKGROUND = new Color(240, 248, 255);
+
+    private StageImageExporter() {
+    }
+
+    /**
+     * Usage: {@code StageImageExporter [outputDir] [WxH,WxH,...] [threads]}
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+        Path outputDir = Paths.get(args.length > 0 ? args[0] : "plant-frames");
+        List<Dimension> sizes = parseSizes(args.length > 1 ? args[1] : "500x320,250x160,1000x640");
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        long start = System.nanoTime();
+        int written = export(outputDir, sizes, threads);
+        System.out.printf("Wrote %d frames to %s in %.1f ms%n", written, outputDir, (System.nanoTime() - start) / 1e6);
+    }
+
+    /**
+     * Render all stages and keyframes at each size into {@code outputDir}.
+     * @return number of images written
+     */
+    public static int export(Path outputDir, List<Dimension> sizes, int threads)
+            throws IOException, InterruptedException {
+        Files.createDirectories(outputDir);
+        // Encode through memory instead of a temporary cache file per image
+        ImageIO.setUseCache(false);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> frames = new ArrayList<>();
+            for (Dimension size : sizes) {
+                for (int stage = 0; stage < PlantRules.TOTAL_STAGE_COUNT; stage++) {
+                    for (int tick = 0; tick <= PlantPanel.PULSE_TICKS; tick++) {
+                        int frameStage = stage;
+                        int frameTick = tick;
+                        frames.add(pool.submit(() -> writeFrame(outputDir, size, frameStage, frameTick)));
+                    }
+                }
+            }
+            for (Future<?> frame : frames) {
+                frame.get();
+            }
+            return frames.size();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new IllegalStateException("Frame rendering failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Render one frame the way PlantPanel paints it at the given size.
+     */
+    static BufferedImage renderFrame(int width, int height, int stage, float animScale) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.setColor(BACKGROUND);
+            g2.fillRect(0, 0, width, height);
+            PlantRenderer.applyQualityHints(g2);
+            // Scale the reference layout uniformly and centre it
+            double scale = Math.min((double) width / PlantRenderer.REFERENCE_WIDTH,
+                    (double) height / PlantRenderer.REFERENCE_HEIGHT);
+            g2.translate((width - PlantRenderer.REFERENCE_WIDTH * scale) / 2,
+                    (height - PlantRenderer.REFERENCE_HEIGHT * scale) / 2);
+            g2.scale(scale, scale);
+            PlantRenderer.paintPlant(g2, PlantRenderer.REFERENCE_WIDTH, PlantRenderer.REFERENCE_HEIGHT,
+                    stage, animScale);
+        } finally {
+            g2.dispose();
+        }
+        return image;
+    }
+
+    private static void writeFrame(Path outputDir, Dimension size, int stage, int tick) {
+        float animScale = tick == 0 ? 1.0f : PlantRenderer.pulseScale(tick);
+        BufferedImage image = renderFrame(size.width, size.height, stage, animScale);
+        Path file = outputDir.resolve(String.format("stage%d-frame%02d-%dx%d.png",
+                stage, tick, size.width, size.height));
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            if (!ImageIO.write(image, "png", out)) {
+                throw new IOException("No PNG writer available");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + file, e);
+        }
+    }
+
+    private static List<Dimension> parseSizes(String spec) {
+        List<Dimension> sizes = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] wh = part.trim().toLowerCase().split("x");
+            if (wh.length != 2) {
+                throw new IllegalArgumentException("Expected WIDTHxHEIGHT but got: " + part);
+            }
+            sizes.add(new Dimension(Integer.parseInt(wh[0]), Integer.parseInt(wh[1])));
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,171 @@
+package com.plantgrowth;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * Pre-rendered images of each plant stage for one panel size and scale factor.
+ * A stage is rendered as a single still image for static frames, plus ground,
+ * foliage and flower layers used while the pulse animation moves the stem.
+ * The translucent layers are cropped to their bounds to keep blending cheap.
+ * Images are accelerated VolatileImages when a graphics configuration is
+ * available and BufferedImages otherwise; all entries are evicted when the
+ * panel size, scale, background or configuration changes.
+ */
+final class StageSpriteCache {
+    static final int STILL = 0;
+    static final int GROUND = 1;
+    static final int FOLIAGE = 2;
+    static final int FLOWER = 3;
+    private static final int LAYER_COUNT = 4;
+
+    private final Image[][] sprites = new Image[PlantRules.TOTAL_STAGE_COUNT][LAYER_COUNT];
+    private final Rectangle[][] bounds = new Rectangle[PlantRules.TOTAL_STAGE_COUNT][LAYER_COUNT];
+
+    private GraphicsConfiguration configuration;
+    private int width;
+    private int height;
+    private double scaleX = 1.0;
+    private double scaleY = 1.0;
+    private Color background;
+
+    /**
+     * Make sure the cache matches the target; evicts every sprite if not.
+     * @param configuration device configuration, or null for offscreen targets
+     * @param transform device transform of the target graphics
+     */
+    void update(GraphicsConfiguration configuration, int width, int height, AffineTransform transform,
+                Color background) {
+        double sx = transform.getScaleX();
+        double sy = transform.getScaleY();
+        if (configuration != this.configuration || width != this.width || height != this.height
+                || sx != scaleX || sy != scaleY || !background.equals(this.background)) {
+            flush();
+            this.configuration = configuration;
+            this.width = width;
+            this.height = height;
+            this.scaleX = sx;
+            this.scaleY = sy;
+            this.background = background;
+        }
+    }
+
+    /**
+     * Draw one layer of a stage, rendering it first if needed.
+     * @param offsetY vertical offset in user space
+     */
+    void draw(Graphics2D g2, int stage, int layer, int offsetY) {
+        Image image = prepare(stage, layer);
+        Rectangle area = bounds[stage][layer];
+        int x = area.x;
+        int y = area.y + offsetY;
+
+        if (!(image instanceof VolatileImage)) {
+            g2.drawImage(image, x, y, area.width, area.height, null);
+            return;
+        }
+
+        VolatileImage volatileImage = (VolatileImage) image;
+        do {
+            int status = volatileImage.validate(configuration);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                volatileImage.flush();
+                Image replacement = createImage(stage, layer);
+                render(replacement, stage, layer);
+                sprites[stage][layer] = replacement;
+                if (!(replacement instanceof VolatileImage)) {
+                    g2.drawImage(replacement, x, y, area.width, area.height, null);
+                    return;
+                }
+                volatileImage = (VolatileImage) replacement;
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                render(volatileImage, stage, layer);
+            }
+            g2.drawImage(volatileImage, x, y, area.width, area.height, null);
+        } while (volatileImage.contentsLost());
+    }
+
+    /**
+     * Render one layer of a stage ahead of its first draw.
+     */
+    Image prepare(int stage, int layer) {
+        Image image = sprites[stage][layer];
+        if (image == null) {
+            bounds[stage][layer] = layerBounds(stage, layer);
+            image = createImage(stage, layer);
+            render(image, stage, layer);
+            sprites[stage][layer] = image;
+        }
+        return image;
+    }
+
+    void flush() {
+        for (Image[] layers : sprites) {
+            for (int layer = 0; layer < layers.length; layer++) {
+                if (layers[layer] != null) {
+                    layers[layer].flush();
+                    layers[layer] = null;
+                }
+            }
+        }
+    }
+
+    private Rectangle layerBounds(int stage, int layer) {
+        return switch (layer) {
+            case FOLIAGE -> PlantRenderer.foliageBounds(width, height);
+            case FLOWER -> PlantRenderer.flowerBounds(width, PlantRenderer.stemTopY(height, stage, 1.0f));
+            default -> new Rectangle(0, 0, width, height);
+        };
+    }
+
+    private Image createImage(int stage, int layer) {
+        Rectangle area = bounds[stage][layer];
+        int pixelWidth = Math.max(1, (int) Math.ceil(area.width * scaleX));
+        int pixelHeight = Math.max(1, (int) Math.ceil(area.height * scaleY));
+        boolean opaque = layer == STILL || layer == GROUND;
+        int transparency = opaque ? Transparency.OPAQUE : Transparency.TRANSLUCENT;
+
+        if (configuration != null) {
+            VolatileImage volatileImage = null;
+            try {
+                volatileImage = configuration.createCompatibleVolatileImage(pixelWidth, pixelHeight, transparency);
+            } catch (RuntimeException e) {
+                // Fall back to an unaccelerated image below
+            }
+            return volatileImage != null ? volatileImage
+                    : configuration.createCompatibleImage(pixelWidth, pixelHeight, transparency);
+        }
+        return new BufferedImage(pixelWidth, pixelHeight,
+                opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    private void render(Image image, int stage, int layer) {
+        Graphics2D g2 = (Graphics2D) image.getGraphics();
+        try {
+            if (layer == STILL || layer == GROUND) {
+                g2.setColor(background);
+                g2.fillRect(0, 0, image.getWidth(null), image.getHeight(null));
+            } else {
+                g2.setComposite(AlphaComposite.Clear);
+                g2.fillRect(0, 0, image.getWidth(null), image.getHeight(null));
+                g2.setComposite(AlphaComposite.SrcOver);
+            }
+            g2.scale(scaleX, scaleY);
+            Rectangle area = bounds[stage][layer];
+            g2.translate(-area.x, -area.y);
+            PlantRenderer.applyQualityHints(g2);
+
+            switch (layer) {
+                case STILL -> PlantRenderer.paintPlant(g2, width, height, stage, 1.0f);
+                case GROUND -> PlantRenderer.paintGround(g2, width, height, stage);
+                case FOLIAGE -> PlantRenderer.paintFoliage(g2, width, height, stage);
+                default -> PlantRenderer.paintFlower(g2, width, height, stage,
+                        PlantRenderer.stemTopY(height, stage, 1.0f));
+            }
+        } finally {
+            g2.dispose();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.plantgrowth;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Measures the GUI's time to first paint, from both the start of
+ * {@code main} and the start of the JVM, and logs it once on standard error.
+ */
+final class StartupTimer {
+    private static long mainNanos;
+    private static long jvmToMainMillis = -1;
+    private static boolean painted;
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Call first thing in {@code main}.
+     */
+    static void mainStarted() {
+        mainNanos = System.nanoTime();
+        jvmToMainMillis = ProcessHandle.current().info().startInstant()
+                .map(start -> Duration.between(start, Instant.now()).toMillis())
+                .orElse(-1L);
+    }
+
+    /**
+     * Call on the event thread after each paint of the window's content.
+     * @return true for the first paint only
+     */
+    static boolean framePainted() {
+        if (painted) {
+            return false;
+        }
+        painted = true;
+        long sinceMain = (System.nanoTime() - mainNanos) / 1_000_000;
+        if (jvmToMainMillis >= 0) {
+            System.err.printf("Time to first paint: %d ms after main, %d ms after JVM start%n",
+                    sinceMain, jvmToMainMillis + sinceMain);
+        } else {
+            System.err.printf("Time to first paint: %d ms after main%n", sinceMain);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,167 @@
+package com.plantgrowth;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Hierarchical timing wheel for one timer per integer id (for example a plant
+ * index). Four levels of 64 slots cover 2^24 ticks; a timer is filed in the
+ * level of the highest bit in which its deadline differs from the current
+ * tick, and moves down a level whenever the clock reaches its slot. Timers
+ * further away wait in an overflow list. Timers are intrusive doubly-linked
+ * lists over flat arrays, so scheduling and cancelling are O(1) and never
+ * allocate, and each timer is moved at most once per level before it expires.
+ */
+final class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final int OVERFLOW = LEVELS * SLOTS;
+    private static final int NONE = -1;
+
+    private final int[] heads = new int[OVERFLOW + 1];
+    private final int[] next;
+    private final int[] previous;
+    private final int[] buckets;
+    private final long[] deadlines;
+    private long now;
+    private int size;
+
+    /**
+     * @param capacity ids range over {@code [0, capacity)}
+     */
+    TimingWheel(int capacity) {
+        next = new int[capacity];
+        previous = new int[capacity];
+        buckets = new int[capacity];
+        deadlines = new long[capacity];
+        Arrays.fill(heads, NONE);
+        Arrays.fill(buckets, NONE);
+    }
+
+    long now() {
+        return now;
+    }
+
+    /**
+     * @return number of pending timers
+     */
+    int size() {
+        return size;
+    }
+
+    boolean isScheduled(int id) {
+        return buckets[id] != NONE;
+    }
+
+    long deadline(int id) {
+        return deadlines[id];
+    }
+
+    /**
+     * Set the timer of an id, replacing any pending one. Deadlines that are
+     * not in the future fire on the next tick.
+     */
+    void schedule(int id, long deadline) {
+        if (buckets[id] != NONE) {
+            unlink(id);
+        } else {
+            size++;
+        }
+        insert(id, Math.max(deadline, now + 1));
+    }
+
+    /**
+     * @return whether a pending timer was cancelled
+     */
+    boolean cancel(int id) {
+        if (buckets[id] == NONE) {
+            return false;
+        }
+        unlink(id);
+        size--;
+        return true;
+    }
+
+    /**
+     * Move the clock forward, calling {@code expired} for every timer whose
+     * deadline is reached, in deadline order. The callback may schedule or
+     * cancel timers, including the one that just fired.
+     * @return number of timers that fired
+     */
+    long advance(long ticks, IntConsumer expired) {
+        long fired = 0;
+        for (long end = now + ticks; now < end; ) {
+            now++;
+            cascade();
+            int slot = (int) (now & SLOT_MASK);
+            for (int id = heads[slot]; id != NONE; id = heads[slot]) {
+                unlink(id);
+                size--;
+                fired++;
+                expired.accept(id);
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * Re-file the timers of every higher-level slot the clock has just reached.
+     */
+    private void cascade() {
+        if ((now & SLOT_MASK) != 0) {
+            return;
+        }
+        if ((now & ((1L << (LEVELS * SLOT_BITS)) - 1)) == 0) {
+            refile(OVERFLOW);
+        }
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((now & ((1L << (level * SLOT_BITS)) - 1)) == 0) {
+                refile(level * SLOTS + (int) ((now >>> (level * SLOT_BITS)) & SLOT_MASK));
+            }
+        }
+    }
+
+    private void refile(int bucket) {
+        // Detach the list first: timers still far away go back into the overflow list
+        int id = heads[bucket];
+        heads[bucket] = NONE;
+        while (id != NONE) {
+            int following = next[id];
+            insert(id, deadlines[id]);
+            id = following;
+        }
+    }
+
+    private void insert(int id, long deadline) {
+        long differing = deadline ^ now;
+        int level = differing == 0 ? 0 : (63 - Long.numberOfLeadingZeros(differing)) / SLOT_BITS;
+        int bucket = level >= LEVELS ? OVERFLOW
+                : level * SLOTS + (int) ((deadline >>> (level * SLOT_BITS)) & SLOT_MASK);
+
+        deadlines[id] = deadline;
+        buckets[id] = bucket;
+        int head = heads[bucket];
+        next[id] = head;
+        previous[id] = NONE;
+        if (head != NONE) {
+            previous[head] = id;
+        }
+        heads[bucket] = id;
+    }
+
+    private void unlink(int id) {
+        int before = previous[id];
+        int after = next[id];
+        if (before == NONE) {
+            heads[buckets[id]] = after;
+        } else {
+            next[before] = after;
+        }
+        if (after != NONE) {
+            previous[after] = before;
+        }
+        buckets[id] = NONE;
+    }
+}
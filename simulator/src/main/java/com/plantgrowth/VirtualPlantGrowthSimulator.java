@@ -0,0 +1,395 @@
+package com.plantgrowth;
+
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.*;
+
+/**
+ * Virtual Plant Growth Simulator - interactive Swing application that visualises
+ * a plant thriving through four growth stages and declining through three
+ * overwatering stages. The plant runs on a {@link PlantSimulation} thread;
+ * the buttons only queue commands, and the window picks up the newest
+ * snapshot at most once per frame.
+ */
+public class VirtualPlantGrowthSimulator extends JFrame {
+    
+    // Constants
+    private static final int GROWTH_STAGE_COUNT = 4;
+    private static final int WINDOW_WIDTH = 600;
+    private static final int WINDOW_HEIGHT = 740;
+    private static final int TOTAL_STAGE_COUNT = GrowthStage.values().length;
+    private static final long FRAME_NANOS = 16_000_000L;
+    private static final String USAGE = "Usage: VirtualPlantGrowthSimulator [--rules <file>] [--state <file>]"
+            + " [--journal <dir>] [--exit-after-first-paint]";
+
+    private final PlantSimulation simulation;
+    private final boolean exitAfterFirstPaint;
+    private final Timer frameTimer = new Timer(0, e -> pickUpSnapshot());
+
+    /** Snapshot on screen; only touched on the event thread. */
+    private PlantSimulation.Snapshot shown;
+    /** Snapshots taken in one pick-up; only touched on the event thread. */
+    private final List<PlantSimulation.Snapshot> taken = new ArrayList<>();
+    private long lastPickupNanos = System.nanoTime() - FRAME_NANOS;
+
+    private PlantPanel plantPanel;
+    private JPanel mainPanel;
+    private JLabel stageLabel;
+    private JLabel descriptionLabel;
+    private JButton waterButton;
+    private JButton resetButton;
+    private NotificationBar notifications;
+    
+    private enum GrowthStage {
+        SEED("Seed", new Color(210, 180, 140), "Foundation: Plant strong roots before reaching for the sky"),
+        SPROUT("Sprout", new Color(173, 216, 130), "Emergence: Break through limitations with consistent effort"),
+        YOUNG_PLANT("Young Plant", new Color(144, 198, 126), "Growth: Build strength through challenges and adaptation"),
+        FLOWERING_PLANT("Flowering Plant", new Color(255, 205, 210), "Blossom: Share your beauty and wisdom with the world"),
+        WILTING("Wilting", new Color(255, 228, 181), "Warning: Excess drains your vital energy"),
+        DYING("Dying", new Color(205, 145, 102), "Decline: Overindulgence leads to irreversible damage"),
+        DEAD("Dead", new Color(169, 169, 169), "Lesson: Balance is the key to sustainable growth");
+
+        private final String displayName;
+        private final Color backgroundColor;
+        private final String description;
+
+        GrowthStage(String displayName, Color backgroundColor, String description) {
+            this.displayName = displayName;
+            this.backgroundColor = backgroundColor;
+            this.description = description;
+        }
+    }
+    
+    public VirtualPlantGrowthSimulator() {
+        this(null, new LiveRules(PlantRules.GUI));
+    }
+
+    /**
+     * @param stateFile single-plant save file to resume from and save to, or null
+     * @param rules rules to follow, including later swaps
+     */
+    public VirtualPlantGrowthSimulator(GardenFile stateFile, LiveRules rules) {
+        this(stateFile, null, rules, false);
+    }
+
+    /**
+     * Build and show the window. The look and feel and rendering properties
+     * are set once by {@link #main}, before any component exists.
+     */
+    private VirtualPlantGrowthSimulator(GardenFile stateFile, PlantJournal journal, LiveRules rules,
+                                        boolean exitAfterFirstPaint) {
+        super("Virtual Plant Growth Simulator");
+        this.simulation = new PlantSimulation(rules, stateFile, journal,
+                "The plant could not recover from overwatering and has died. Remember: Too much of anything destroys what you cherish most.",
+                "The plant is already dead. Please reset to start over. Every ending is a new beginning.",
+                () -> SwingUtilities.invokeLater(this::pickUpSnapshot));
+        this.exitAfterFirstPaint = exitAfterFirstPaint;
+        this.shown = simulation.latest();
+        frameTimer.setRepeats(false);
+
+        setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+        setSize(WINDOW_WIDTH, WINDOW_HEIGHT);
+        setLocationRelativeTo(null);
+        setResizable(false);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                // Let queued waterings reach the save file and journal before the JVM exits
+                simulation.close();
+            }
+        });
+
+        // Ensure proper rendering hints
+        setBackground(Color.WHITE);
+
+        initialiseComponents();
+        updatePlantDisplay();
+
+        setVisible(true);
+    }
+
+    /**
+     * Work left out of the first frame: render the sprites of the other
+     * stages while the event thread is idle, one stage per event.
+     */
+    private void finishStartup() {
+        if (exitAfterFirstPaint) {
+            // Training run for a class-data sharing archive
+            System.exit(0);
+        }
+        for (int stage = 0; stage < TOTAL_STAGE_COUNT; stage++) {
+            int prepared = stage;
+            SwingUtilities.invokeLater(() -> plantPanel.prepareStage(prepared));
+        }
+    }
+
+    private void initialiseComponents() {
+        mainPanel = new JPanel() {
+            @Override
+            public void paint(Graphics g) {
+                super.paint(g);
+                if (StartupTimer.framePainted()) {
+                    SwingUtilities.invokeLater(VirtualPlantGrowthSimulator.this::finishStartup);
+                }
+            }
+        };
+        mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+        mainPanel.setOpaque(true);
+
+        JLabel titleLabel = new JLabel("Virtual Plant Growth Simulator", SwingConstants.CENTER);
+        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 24));
+        titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        plantPanel = new PlantPanel();
+        plantPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        stageLabel = new JLabel();
+        stageLabel.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        stageLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        descriptionLabel = new JLabel();
+        descriptionLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        descriptionLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 10));
+        buttonPanel.setOpaque(false);
+        buttonPanel.setMaximumSize(new Dimension(600, 80));
+
+        waterButton = new JButton("Water");
+        waterButton.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        waterButton.setPreferredSize(new Dimension(120, 55));
+        waterButton.setBackground(new Color(30, 144, 255)); // Dodger Blue
+        waterButton.setForeground(new Color(0, 0, 139)); // Dark Blue text
+        waterButton.setFocusPainted(false);
+        waterButton.setOpaque(true);
+        waterButton.setBorderPainted(true);
+        waterButton.setBorder(BorderFactory.createLineBorder(new Color(0, 0, 139), 3));
+        // Ensure button text is visible
+        waterButton.setContentAreaFilled(true);
+        waterButton.addActionListener(e -> simulation.water());
+
+        resetButton = new JButton("Reset");
+        resetButton.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        resetButton.setPreferredSize(new Dimension(120, 55));
+        resetButton.setBackground(new Color(0, 0, 205)); // Medium Blue
+        resetButton.setForeground(new Color(0, 0, 139)); // Dark Blue text
+        resetButton.setFocusPainted(false);
+        resetButton.setOpaque(true);
+        resetButton.setBorderPainted(true);
+        resetButton.setBorder(BorderFactory.createLineBorder(new Color(0, 0, 139), 3));
+        // Ensure button text is visible
+        resetButton.setContentAreaFilled(true);
+        resetButton.addActionListener(e -> simulation.reset());
+
+        buttonPanel.add(waterButton);
+        buttonPanel.add(resetButton);
+
+        notifications = new NotificationBar(WINDOW_WIDTH - 30);
+        notifications.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        mainPanel.add(titleLabel);
+        mainPanel.add(Box.createVerticalStrut(10));
+        mainPanel.add(plantPanel);
+        mainPanel.add(Box.createVerticalStrut(12));
+        mainPanel.add(stageLabel);
+        mainPanel.add(Box.createVerticalStrut(5));
+        mainPanel.add(descriptionLabel);
+        mainPanel.add(Box.createVerticalStrut(15));
+        mainPanel.add(buttonPanel);
+        mainPanel.add(Box.createVerticalStrut(10));
+        mainPanel.add(notifications);
+
+        add(mainPanel);
+    }
+
+    /**
+     * Show the newest snapshot, unless one was shown less than a frame ago,
+     * in which case try again when the frame is up. Every command applied
+     * since the last pick-up is announced in order, and the window is
+     * updated once for all of them.
+     */
+    private void pickUpSnapshot() {
+        long now = System.nanoTime();
+        long wait = lastPickupNanos + FRAME_NANOS - now;
+        if (wait > 0) {
+            frameTimer.setInitialDelay((int) Math.max(1, wait / 1_000_000));
+            frameTimer.restart();
+            return;
+        }
+        lastPickupNanos = now;
+        if (!simulation.takePublished(taken)) {
+            return;
+        }
+        for (PlantSimulation.Snapshot snapshot : taken) {
+            announce(snapshot);
+        }
+        shown = taken.get(taken.size() - 1);
+        taken.clear();
+        updatePlantDisplay();
+    }
+
+    private void announce(PlantSimulation.Snapshot snapshot) {
+        switch (snapshot.outcome) {
+            case WaterOutcome.GREW -> handleGrowthWatering(snapshot);
+            case WaterOutcome.ABSORBED -> handleAbsorbedWatering(snapshot);
+            case WaterOutcome.DECLINED -> announceDeclineStage(snapshot);
+            case WaterOutcome.DIED -> {
+                announceDeclineStage(snapshot);
+                notifications.post("Overwatering Alert", snapshot.message, NotificationBar.Kind.WARNING);
+            }
+            case WaterOutcome.ALREADY_DEAD ->
+                    notifications.post("Overwatering Alert", snapshot.message, NotificationBar.Kind.WARNING);
+            case PlantSimulation.NO_OUTCOME -> notifications.post("Reset Complete",
+                    "New beginning: Every seed holds infinite potential. Nurture wisely.",
+                    NotificationBar.Kind.INFO);
+            default -> { }
+        }
+    }
+
+    private void handleGrowthWatering(PlantSimulation.Snapshot snapshot) {
+        int currentStage = snapshot.getStage();
+        if (currentStage < GROWTH_STAGE_COUNT) {
+            notifications.post("Growth Progress", GrowthStage.values()[currentStage].description,
+                    NotificationBar.Kind.INFO);
+        } else {
+            notifications.post("Flowering Plant",
+                    "Your plant is in full bloom. Additional watering may cause decline.",
+                    NotificationBar.Kind.INFO);
+        }
+    }
+    
+    private void handleAbsorbedWatering(PlantSimulation.Snapshot snapshot) {
+        // For flowering plant, allow some watering but too much causes decline
+        if (snapshot.getStage() == GROWTH_STAGE_COUNT
+                && snapshot.getWaterAtCurrentStage() <= snapshot.rules.getSafeWaterAtFlowering()) {
+            notifications.post("Hydrated",
+                    "The flowering plant absorbed the water. Give it time before watering again.",
+                    NotificationBar.Kind.INFO);
+        }
+    }
+    
+    private void announceDeclineStage(PlantSimulation.Snapshot snapshot) {
+        GrowthStage stage = GrowthStage.values()[snapshot.getStage()];
+        notifications.post(stage.displayName, stage.description, NotificationBar.Kind.WARNING);
+    }
+    
+    private void updatePlantDisplay() {
+        int currentStage = shown.getStage();
+        GrowthStage stage = GrowthStage.values()[currentStage];
+
+        plantPanel.setStage(currentStage);
+        mainPanel.setBackground(stage.backgroundColor);
+
+        stageLabel.setText(stage.displayName);
+        descriptionLabel.setText(stage.description);
+
+        waterButton.setEnabled(currentStage < TOTAL_STAGE_COUNT - 1);
+    }
+
+    /**
+     * Set the system look and feel, falling back to the cross-platform one.
+     */
+    private static void installLookAndFeel() {
+        try {
+            UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
+        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException
+                 | UnsupportedLookAndFeelException e) {
+            // Use default look and feel if system L&F fails
+            try {
+                UIManager.setLookAndFeel(UIManager.getCrossPlatformLookAndFeelClassName());
+            } catch (Exception ex) {
+                // Last resort - use default
+            }
+        }
+    }
+
+    /**
+     * Usage: {@code VirtualPlantGrowthSimulator [--rules <file>] [--state <file>]
+     * [--journal <dir>] [--exit-after-first-paint]}; with a rules file the rules
+     * are loaded from it and reloaded whenever it changes, and with a state file
+     * the plant resumes from its last saved stage. With a journal directory every
+     * watering and reset is recorded in a {@link GardenJournal} there, and the
+     * plant resumes from its replay. The last option exits once the window has
+     * been painted, for training runs that record a class-data sharing archive.
+     */
+    public static void main(String[] args) {
+        StartupTimer.mainStarted();
+        // Rendering properties only take effect if set before AWT initialises
+        System.setProperty("awt.useSystemAAFontSettings", "on");
+        System.setProperty("swing.aatext", "true");
+        System.setProperty("sun.java2d.dpiaware", "true");
+
+        String rulesPath = null;
+        String statePath = null;
+        String journalPath = null;
+        boolean exitAfterFirstPaint = false;
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            switch (option) {
+                case "--rules" -> rulesPath = optionValue(args, ++i, option, "a file");
+                case "--state" -> statePath = optionValue(args, ++i, option, "a file");
+                case "--journal" -> journalPath = optionValue(args, ++i, option, "a directory");
+                case "--exit-after-first-paint" -> exitAfterFirstPaint = true;
+                default -> exitWithUsage("Unknown option " + option);
+            }
+        }
+
+        // Let the event thread start the toolkit and look and feel while this thread reads files
+        SwingUtilities.invokeLater(VirtualPlantGrowthSimulator::installLookAndFeel);
+
+        LiveRules rules = new LiveRules(PlantRules.GUI);
+        if (rulesPath != null) {
+            try {
+                rules = LiveRules.watch(Paths.get(rulesPath));
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Could not load rules, using the defaults: " + e.getMessage());
+            }
+        }
+        GardenFile stateFile = null;
+        if (statePath != null) {
+            try {
+                stateFile = GardenFile.openOrCreate(Paths.get(statePath), rules.get(), 1);
+            } catch (IOException e) {
+                System.err.println("Could not open " + statePath + ": " + e.getMessage());
+                System.exit(1);
+            }
+        }
+        PlantJournal journal = null;
+        if (journalPath != null) {
+            try {
+                journal = PlantJournal.openOrCreate(Paths.get(journalPath), rules.get());
+            } catch (IOException e) {
+                System.err.println("Could not open the journal in " + journalPath + ": " + e.getMessage());
+                System.exit(1);
+            }
+        }
+        GardenFile plantFile = stateFile;
+        PlantJournal plantJournal = journal;
+        LiveRules plantRules = rules;
+        boolean trainingRun = exitAfterFirstPaint;
+        SwingUtilities.invokeLater(
+                () -> new VirtualPlantGrowthSimulator(plantFile, plantJournal, plantRules, trainingRun));
+    }
+
+    /**
+     * @return the value of an option, exiting with the usage if it is missing
+     */
+    private static String optionValue(String[] args, int index, String option, String what) {
+        if (index >= args.length || args[index].startsWith("--")) {
+            exitWithUsage(option + " needs " + what);
+        }
+        return args[index];
+    }
+
+    private static void exitWithUsage(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        System.exit(1);
+    }
+}
@@ -0,0 +1,33 @@
+package com.plantgrowth;
+
+/**
+ * Compact outcome codes for a single watering step.
+ * Plain int constants so the hot path can return them without allocating.
+ */
+public final class WaterOutcome {
+    /** The plant advanced to the next growth stage. */
+    public static final int GREW = 0;
+    /** The plant took the water without changing stage. */
+    public static final int ABSORBED = 1;
+    /** The plant advanced to a decline stage but is still alive. */
+    public static final int DECLINED = 2;
+    /** The plant advanced to the dead stage. */
+    public static final int DIED = 3;
+    /** The plant was already dead when watered. */
+    public static final int ALREADY_DEAD = 4;
+
+    public static final int COUNT = 5;
+
+    private static final String[] NAMES = {"GREW", "ABSORBED", "DECLINED", "DIED", "ALREADY_DEAD"};
+
+    private WaterOutcome() {
+    }
+
+    public static String name(int outcome) {
+        return NAMES[outcome];
+    }
+
+    public static boolean isFatal(int outcome) {
+        return outcome == DIED || outcome == ALREADY_DEAD;
+    }
+}
@@ -0,0 +1,130 @@
+package com.plantgrowth;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Bulk sweep applying a transition table to a run of packed plant states.
+ * The only implementation is {@code VectorWatering}, which looks up a whole
+ * vector of plants at once with the incubating Vector API. It lives in the
+ * separately compiled {@code src/incubator/java} source root and is used only
+ * when the JVM was started with {@code --add-modules jdk.incubator.vector}
+ * and the CPU has vectors of at least 256 bits; otherwise {@link #forTable}
+ * returns null and callers keep the plain table lookup.
+ */
+abstract class WateringKernel {
+    private static final Method CREATE = findVectorKernel();
+    /** Vector size used on this CPU, or 0 when there is no kernel. */
+    private static final int BITS = preferredBits();
+
+    /**
+     * Replace every state in {@code [from, to)} by its entry in the kernel's table.
+     */
+    abstract void water(byte[] states, int from, int to);
+
+    /**
+     * @return whether {@link #forTable} returns kernels in this JVM
+     */
+    static boolean isAvailable() {
+        return BITS != 0;
+    }
+
+    /**
+     * @param table transition table of at most {@link PlantRules#STATE_COUNT} entries; not copied
+     * @return kernel applying the table, or null if none is available
+     */
+    static WateringKernel forTable(byte[] table) {
+        return BITS == 0 ? null : forTable(table, BITS);
+    }
+
+    /**
+     * Kernel with a chosen vector size, whether or not the CPU has it; lets
+     * tests check the kernel on any machine the module is added on.
+     * @throws IllegalStateException if the Vector API module was not added
+     */
+    static WateringKernel forTable(byte[] table, int bits) {
+        if (CREATE == null) {
+            throw new IllegalStateException("Vector kernel needs --add-modules jdk.incubator.vector");
+        }
+        try {
+            return (WateringKernel) CREATE.invoke(null, table, bits);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create the vector kernel", e);
+        }
+    }
+
+    private static Method findVectorKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return Class.forName("com.plantgrowth.VectorWatering").getDeclaredMethod("create", byte[].class,
+                    int.class);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static int preferredBits() {
+        if (CREATE == null) {
+            return 0;
+        }
+        try {
+            return (Integer) CREATE.getDeclaringClass().getDeclaredMethod("preferredBits").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Check the kernel against the table lookup on random populations and time both.
+     * Usage: {@code WateringKernel [plants] [sweeps]}, started with
+     * {@code --add-modules jdk.incubator.vector} to enable the kernel.
+     */
+    public static void main(String[] args) {
+        int plants = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 20;
+        int sweeps = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        byte[] table = PlantRules.GUI.transitions;
+        WateringKernel kernel = forTable(table);
+        if (kernel == null) {
+            System.out.println("Vector kernel unavailable: start with --add-modules jdk.incubator.vector"
+                    + " on a CPU with 256-bit vectors or wider");
+            return;
+        }
+        System.out.println("Vector kernel with " + BITS + "-bit vectors");
+
+        Random random = new Random(1);
+        byte[] expected = new byte[plants];
+        for (int i = 0; i < plants; i++) {
+            expected[i] = (byte) random.nextInt(PlantRules.STATE_COUNT);
+        }
+        byte[] actual = expected.clone();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < plants; i++) {
+                expected[i] = table[expected[i]];
+            }
+            kernel.water(actual, 0, plants);
+        }
+        if (!Arrays.equals(expected, actual)) {
+            throw new IllegalStateException("Vector kernel differs from the table lookup");
+        }
+
+        for (int pass = 0; pass < 5; pass++) {
+            long start = System.nanoTime();
+            for (int sweep = 0; sweep < sweeps; sweep++) {
+                for (int i = 0; i < plants; i++) {
+                    expected[i] = table[expected[i]];
+                }
+            }
+            long tableNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int sweep = 0; sweep < sweeps; sweep++) {
+                kernel.water(actual, 0, plants);
+            }
+            long vectorNanos = System.nanoTime() - start;
+            System.out.printf("table %.3f ns/plant, vector %.3f ns/plant%n",
+                    (double) tableNanos / sweeps / plants, (double) vectorNanos / sweeps / plants);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.plantgrowth;
+
+/**
+ * Decides how many times each plant is watered in each round of a batch run.
+ * Implementations must be pure functions of their arguments so that a batch
+ * gives the same result however the population is split across threads.
+ */
+@FunctionalInterface
+public interface WateringSchedule {
+    /**
+     * @param plantIndex index of the plant in the garden
+     * @param round zero-based round number
+     * @return number of waterings, never negative
+     */
+    int wateringsFor(int plantIndex, int round);
+
+    /**
+     * Water every plant the same number of times each round.
+     */
+    static WateringSchedule uniform(int waterings) {
+        if (waterings < 0) {
+            throw new IllegalArgumentException("Waterings must not be negative: " + waterings);
+        }
+        return (plantIndex, round) -> waterings;
+    }
+
+    /**
+     * Water each plant a pseudo-random number of times in {@code [0, maxWaterings]}
+     * each round, derived from the seed, plant and round by a stateless hash.
+     */
+    static WateringSchedule random(long seed, int maxWaterings) {
+        if (maxWaterings < 0) {
+            throw new IllegalArgumentException("Max waterings must not be negative: " + maxWaterings);
+        }
+        int bound = maxWaterings + 1;
+        return (plantIndex, round) -> {
+            long z = seed + ((long) plantIndex << 32 | round & 0xFFFFFFFFL) * 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            z ^= z >>> 31;
+            return (int) ((z >>> 1) % bound);
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class AnsiScreenTest {
+    private static final String ESC = "\u001b[";
+
+    @Test
+    void onlyChangedLinesAreRewrittenFromTheirFirstDifference() {
+        StringWriter written = new StringWriter();
+        AnsiScreen screen = new AnsiScreen(new PrintWriter(written));
+
+        screen.render(new String[] {"frame 9", "stage Seed", "water 3"});
+        assertEquals(ESC + "?25l" + ESC + "2J" + ESC + "1;1Hframe 9" + ESC + "2;1Hstage Seed"
+                + ESC + "3;1Hwater 3", take(written));
+
+        // Unchanged line skipped, longer line continued, shorter line cleared past its end
+        screen.render(new String[] {"frame 10", "stage Seed", "water"});
+        assertEquals(ESC + "1;7H10" + ESC + "3;6H" + ESC + "K", take(written));
+
+        screen.render(new String[] {"frame 10", "stage Seed", "water"});
+        assertEquals("", take(written));
+
+        // Rows no longer used are erased below the frame
+        screen.render(new String[] {"frame 11"});
+        assertEquals(ESC + "1;8H1" + ESC + "2;1H" + ESC + "J", take(written));
+
+        // Lines of 8 + 11 + 8, 9 + 11 + 6 twice, then 9 characters had every line been reprinted
+        assertEquals(88, screen.getFullRedrawChars());
+        screen.close();
+        assertEquals(ESC + "2;1H" + ESC + "?25h", take(written));
+    }
+
+    private static String take(StringWriter written) {
+        String text = written.toString();
+        written.getBuffer().setLength(0);
+        return text;
+    }
+}
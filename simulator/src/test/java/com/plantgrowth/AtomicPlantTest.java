@@ -0,0 +1,69 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+
+class AtomicPlantTest {
+    /**
+     * Each operation records the word it replaced; sorted by sequence number,
+     * those words must form exactly the history a single thread would produce.
+     */
+    @Test
+    void concurrentOperationsAreLinearizable() throws InterruptedException {
+        int threads = 4;
+        int operations = 50_000;
+        AtomicPlant plant = new AtomicPlant(PlantRules.GUI);
+        // Replaced words per thread, with resets flagged by a negative sign
+        long[][] history = new long[threads][operations];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long[] recorded = history[t];
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < operations; i++) {
+                    recorded[i] = random.nextInt(64) == 0 ? ~plant.resetAndGetPrevious() : plant.waterAndGetPrevious();
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        int total = threads * operations;
+        long[] bySequence = new long[total];
+        boolean[] seen = new boolean[total];
+        for (long[] recorded : history) {
+            for (long word : recorded) {
+                int sequence = (int) AtomicPlant.sequenceOf(word < 0 ? ~word : word);
+                assertFalse(seen[sequence], "duplicate sequence " + sequence);
+                seen[sequence] = true;
+                bySequence[sequence] = word;
+            }
+        }
+        PlantEngine reference = new PlantEngine(PlantRules.GUI);
+        for (int sequence = 0; sequence < total; sequence++) {
+            long word = bySequence[sequence];
+            boolean reset = word < 0;
+            assertEquals(reference.getState(), AtomicPlant.stateOf(reset ? ~word : word), "operation " + sequence);
+            if (reset) {
+                reference.reset();
+            } else {
+                reference.water();
+            }
+        }
+        assertEquals(reference.getState(), plant.getState());
+        assertEquals(total, plant.getOperationCount());
+    }
+}
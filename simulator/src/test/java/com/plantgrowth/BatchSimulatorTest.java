@@ -0,0 +1,60 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class BatchSimulatorTest {
+    @Test
+    void parallelRunMatchesSequentialReference() {
+        int plants = 3 * BatchSimulator.CHUNK_SIZE + 123;
+        WateringSchedule schedule = WateringSchedule.random(42L, 2);
+        Garden reference = new Garden(PlantRules.GUI, plants);
+        BatchResult expected = BatchSimulator.runSequential(reference, schedule, 8);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Garden garden = new Garden(PlantRules.GUI, plants);
+            assertEquals(expected, BatchSimulator.runParallel(garden, schedule, 8, pool));
+            assertArrayEquals(reference.states(), garden.states());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void sequentialRunMatchesSteppingEachPlantThroughTheEngine() {
+        int plants = 5000;
+        int rounds = 8;
+        WateringSchedule schedule = WateringSchedule.random(7L, 3);
+        Garden garden = new Garden(PlantRules.GUI, plants);
+        BatchResult result = BatchSimulator.runSequential(garden, schedule, rounds);
+
+        PlantEngine engine = new PlantEngine(PlantRules.GUI);
+        long[] histogram = new long[PlantRules.TOTAL_STAGE_COUNT];
+        long water = 0;
+        for (int i = 0; i < plants; i++) {
+            engine.reset();
+            for (int round = 0; round < rounds; round++) {
+                for (int w = 0; w < schedule.wateringsFor(i, round); w++) {
+                    engine.water();
+                    water++;
+                }
+            }
+            assertEquals(engine.getState(), garden.getState(i), "plant " + i);
+            histogram[engine.getStage()]++;
+        }
+        assertEquals(new BatchResult(histogram, histogram[PlantRules.DEAD_STAGE], water), result);
+    }
+
+    @Test
+    void histogramCountsEveryPlant() {
+        Garden garden = new Garden(PlantRules.GUI, 1000);
+        BatchResult result = BatchSimulator.runParallel(garden, WateringSchedule.uniform(1), 6);
+        assertEquals(1000, result.getStageCount(PlantRules.GROWTH_STAGE_COUNT - 1));
+        assertEquals(6000, result.getTotalWater());
+        assertEquals(0, result.getDeaths());
+    }
+}
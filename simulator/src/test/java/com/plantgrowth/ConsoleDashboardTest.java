@@ -0,0 +1,26 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ConsoleDashboardTest {
+    @Test
+    void framesShowTheGardenAndReplantTheDead() {
+        Garden garden = new Garden(PlantRules.CONSOLE, 3 * BatchSimulator.CHUNK_SIZE + 5);
+        ConsoleDashboard dashboard = new ConsoleDashboard(garden, 1L);
+        long[] histogram = null;
+        for (int frame = 0; frame < 60; frame++) {
+            dashboard.step();
+            histogram = garden.stageHistogram();
+            String[] lines = dashboard.lines();
+            for (int stage = 0; stage < PlantRules.TOTAL_STAGE_COUNT; stage++) {
+                String count = String.format("%,11d ", histogram[stage]);
+                assertTrue(lines[5 + stage].contains(count), lines[5 + stage] + " should show" + count);
+            }
+        }
+        // Replanting keeps a share of the population alive however long it runs
+        assertTrue(histogram[PlantRules.DEAD_STAGE] < garden.size() * 0.9);
+        assertTrue(histogram[PlantRules.DEAD_STAGE] > 0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GardenFileTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void savedGardenLoadsBackIdentically() throws IOException {
+        int plants = 10 * Garden.PAGE_PLANTS + 77;
+        Garden garden = new Garden(PlantRules.GUI, plants);
+        BatchSimulator.runParallel(garden, WateringSchedule.random(1L, 2), 8);
+        Path path = directory.resolve("garden.pgf");
+
+        try (GardenFile file = GardenFile.create(path, PlantRules.GUI, plants)) {
+            assertEquals(garden.pageCount(), file.save(garden, 0));
+            garden.waterPlant(5, 1);
+            garden.waterPlant(plants - 1, 1);
+            assertEquals(2, file.save(garden, 0));
+            // Watering zero times changes nothing, so there is nothing to write
+            garden.water(0, plants, 0);
+            assertEquals(0, file.save(garden, 0));
+        }
+        try (GardenFile file = GardenFile.open(path)) {
+            assertArrayEquals(garden.states(), file.load().states());
+            assertEquals(garden.getState(plants - 1), file.getState(plants - 1));
+
+            Garden window = new Garden(file.getRules(), 2 * Garden.PAGE_PLANTS);
+            file.load(window, 4 * Garden.PAGE_PLANTS);
+            assertEquals(garden.getState(4 * Garden.PAGE_PLANTS + 9), window.getState(9));
+        }
+    }
+
+    @Test
+    void newFileHoldsOnlySeeds() throws IOException {
+        try (GardenFile file = GardenFile.openOrCreate(directory.resolve("seeds.pgf"), PlantRules.GUI, 1000)) {
+            assertEquals(1000, file.load().stageHistogram()[0]);
+        }
+    }
+
+    @Test
+    void reopeningUnderNewRulesKeepsThePlantAndRecordsTheRules() throws IOException {
+        Path path = directory.resolve("plant.pgf");
+        PlantRules edited = PlantRules.compile(new int[] {2, 2, 2, Integer.MAX_VALUE}, 5, 1);
+        try (GardenFile file = GardenFile.openOrCreate(path, PlantRules.GUI, 1)) {
+            file.setState(0, PlantRules.pack(3, 2));
+        }
+        try (GardenFile file = GardenFile.openOrCreate(path, edited, 1)) {
+            assertEquals(PlantRules.pack(3, 2), file.getState(0));
+        }
+        try (GardenFile file = GardenFile.open(path)) {
+            assertEquals(5, file.getRules().getSafeWaterAtFlowering());
+        }
+        assertThrows(IOException.class, () -> GardenFile.openOrCreate(path, PlantRules.GUI, 2));
+    }
+
+    @Test
+    void corruptPlantCountIsRejected() throws IOException {
+        Path path = directory.resolve("corrupt.pgf");
+        GardenFile.create(path, PlantRules.GUI, 3 * Garden.PAGE_PLANTS).close();
+        for (int plants : new int[] {-1, Integer.MIN_VALUE, Integer.MAX_VALUE, Garden.PAGE_PLANTS,
+                5 * Garden.PAGE_PLANTS}) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(4).putInt(0, plants), 8);
+            }
+            assertThrows(IOException.class, () -> GardenFile.open(path), "plant count " + plants);
+        }
+    }
+}
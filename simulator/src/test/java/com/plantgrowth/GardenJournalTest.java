@@ -0,0 +1,132 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GardenJournalTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void snapshotReplayMatchesLiveGarden() throws IOException {
+        Garden live;
+        Random random = new Random(1);
+        try (GardenJournal journal = GardenJournal.create(directory, new Garden(PlantRules.GUI, 5000), 20_000)) {
+            for (int i = 0; i < 50_000; i++) {
+                int plant = random.nextInt(5000);
+                if (random.nextInt(16) == 0) {
+                    journal.reset(plant);
+                } else {
+                    journal.water(plant, 1);
+                }
+            }
+            journal.water(100, 200, 3);
+            journal.reset(0, 50);
+            live = journal.getGarden();
+        }
+        GardenJournal.Replay replay = GardenJournal.replay(directory);
+        assertArrayEquals(live.states(), replay.getGarden().states());
+        // Two automatic snapshots cover the first 40,000 events
+        assertEquals(10_002, replay.getEvents());
+    }
+
+    @Test
+    void reopenedJournalKeepsAppending() throws IOException {
+        try (GardenJournal journal = GardenJournal.create(directory, new Garden(PlantRules.GUI, 10), 0)) {
+            journal.water(3, 2);
+        }
+        try (GardenJournal journal = GardenJournal.open(directory, 0)) {
+            assertEquals(PlantRules.pack(1, 0), journal.getGarden().getState(3));
+            journal.water(3, 1);
+        }
+        assertEquals(PlantRules.pack(1, 1), GardenJournal.replay(directory).getGarden().getState(3));
+    }
+
+    @Test
+    void zeroAndGarbageTailsEndTheLog() throws IOException {
+        try (GardenJournal journal = GardenJournal.create(directory, new Garden(PlantRules.GUI, 10), 0)) {
+            journal.water(3, 2);
+        }
+        byte[] garbage = new byte[100];
+        new Random(3).nextBytes(garbage);
+        for (byte[] tail : new byte[][] {new byte[16], garbage}) {
+            Files.write(directory.resolve(GardenJournal.JOURNAL_FILE), tail, StandardOpenOption.APPEND);
+            GardenJournal.Replay replay = GardenJournal.replay(directory);
+            assertEquals(PlantRules.pack(1, 0), replay.getGarden().getState(3));
+            assertEquals(1, replay.getEvents());
+        }
+        try (GardenJournal journal = GardenJournal.open(directory, 0)) {
+            journal.water(3, 1);
+        }
+        GardenJournal.Replay replay = GardenJournal.replay(directory);
+        assertEquals(PlantRules.pack(1, 1), replay.getGarden().getState(3));
+        assertEquals(2, replay.getEvents());
+    }
+
+    @Test
+    void batchFailingItsChecksumEndsTheLog() throws IOException {
+        try (GardenJournal journal = GardenJournal.create(directory, new Garden(PlantRules.GUI, 10), 0)) {
+            journal.water(3, 2);
+            journal.flush();
+            journal.water(4, 2);
+        }
+        try (FileChannel channel = FileChannel.open(directory.resolve(GardenJournal.JOURNAL_FILE),
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Point the last watering at another plant without updating the checksum
+            channel.write(ByteBuffer.allocate(4).putInt(0, 5), channel.size() - 8);
+        }
+        GardenJournal.Replay replay = GardenJournal.replay(directory);
+        assertEquals(PlantRules.pack(1, 0), replay.getGarden().getState(3));
+        assertEquals(0, replay.getGarden().getState(4));
+        assertEquals(0, replay.getGarden().getState(5));
+        assertEquals(1, replay.getEvents());
+    }
+
+    @Test
+    void replayFollowsRecordedRuleChanges() throws IOException {
+        PlantRules faster = PlantRules.compile(new int[] {1, 1, 1, Integer.MAX_VALUE}, 3, 1);
+        Garden live;
+        try (GardenJournal journal = GardenJournal.create(directory, new Garden(PlantRules.GUI, 10), 3)) {
+            journal.water(0, 2);
+            journal.setRules(faster);
+            journal.water(0, 1);
+            journal.water(1, 1);
+            live = journal.getGarden();
+        }
+        assertEquals(PlantRules.pack(2, 0), live.getState(0));
+        // The snapshot after the third event carries the new rules to the last watering
+        GardenJournal.Replay replay = GardenJournal.replay(directory);
+        assertArrayEquals(live.states(), replay.getGarden().states());
+        assertArrayEquals(faster.getGrowthWaterThresholds(), replay.getGarden().getRules().getGrowthWaterThresholds());
+        assertEquals(1, replay.getEvents());
+    }
+
+    @Test
+    void plantJournalRecordsRulesSwappedUnderTheEngine() throws IOException {
+        LiveRules rules = new LiveRules(PlantRules.GUI);
+        PlantEngine engine = new PlantEngine(rules);
+        try (PlantJournal journal = PlantJournal.openOrCreate(directory, rules.get())) {
+            int previousState = engine.getState();
+            engine.water();
+            journal.watered(previousState, 1, engine);
+            rules.set(PlantRules.compile(new int[] {1, 1, 1, Integer.MAX_VALUE}, 3, 1));
+            previousState = engine.getState();
+            engine.water();
+            journal.watered(previousState, 1, engine);
+        }
+        assertEquals(PlantRules.pack(1, 0), engine.getState());
+        try (PlantJournal journal = PlantJournal.openOrCreate(directory, PlantRules.GUI)) {
+            assertEquals(engine.getState(), journal.getState());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GrowthClockTest {
+    @Test
+    void soilWaterIsAbsorbedThenHeldWaterEvaporates() {
+        PlantRules rules = PlantRules.GUI;
+        GrowthClock clock = new GrowthClock(new Garden(rules, 2), 10, 100);
+        clock.water(1);
+        clock.water(1);
+
+        // Nothing changes before the first absorption is due
+        assertEquals(0, clock.advance(9, null));
+        List<Integer> changed = new ArrayList<>();
+        assertEquals(1, clock.advance(1, changed::add));
+        assertEquals(List.of(1), changed);
+        assertEquals(rules.next(0), clock.getGarden().getState(1));
+        assertEquals(1, clock.getSoilWater(1));
+
+        clock.advance(10, null);
+        assertEquals(rules.next(rules.next(0)), clock.getGarden().getState(1));
+        assertEquals(0, clock.getSoilWater(1));
+
+        // Water held at the new stage evaporates one unit at a time once the soil is dry
+        clock.water(1);
+        clock.advance(10, null);
+        int held = clock.getGarden().getState(1);
+        assertEquals(1, PlantRules.waterOf(held));
+        assertEquals(0, clock.advance(99, null));
+        assertEquals(1, clock.advance(1, null));
+        assertEquals(PlantRules.pack(PlantRules.stageOf(held), 0), clock.getGarden().getState(1));
+        assertEquals(0, clock.pendingTimers());
+        assertEquals(0, clock.getGarden().getState(0));
+    }
+
+    @Test
+    void evaporationLeavesAPlantDriedOutsideTheClockAlone() {
+        GrowthClock clock = new GrowthClock(new Garden(PlantRules.GUI, 1), 1, 5);
+        clock.water(0);
+        clock.advance(1, null);
+        assertEquals(1, clock.pendingTimers());
+
+        // Reset through the garden rather than the clock, so the evaporation stays pending
+        clock.getGarden().reset(0, 1);
+        List<Integer> changed = new ArrayList<>();
+        clock.advance(5, changed::add);
+        assertEquals(0, clock.getGarden().getState(0));
+        assertEquals(List.of(), changed);
+        assertEquals(0, clock.pendingTimers());
+    }
+}
@@ -0,0 +1,97 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OffHeapGardenTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void sweepsMatchOnHeapGarden() throws IOException {
+        int plants = 3_000_001;
+        Random random = new Random(5);
+        Garden reference = new Garden(PlantRules.GUI, plants);
+        try (OffHeapGarden garden = OffHeapGarden.allocate(PlantRules.GUI, plants)) {
+            for (int i = 0; i < plants; i += 7) {
+                int state = random.nextInt(PlantRules.STATE_COUNT);
+                reference.setState(i, state);
+                garden.setState(i, state);
+            }
+            for (int round = 0; round < 6; round++) {
+                int times = round % 3 + 1;
+                garden.waterAll(times);
+                reference.water(0, plants, times);
+            }
+            for (int i = 0; i < plants; i++) {
+                assertEquals(reference.getState(i), garden.getState(i), "plant " + i);
+            }
+            assertArrayEquals(reference.stageHistogram(), garden.stageHistogram());
+        }
+    }
+
+    @Test
+    void mappedGardenResumesFromItsFile() throws IOException {
+        Path path = directory.resolve("garden.pgo");
+        try (OffHeapGarden garden = OffHeapGarden.openOrCreate(path, PlantRules.GUI, 10_000)) {
+            garden.water(0, 5000, 2);
+        }
+        try (OffHeapGarden garden = OffHeapGarden.openOrCreate(path, PlantRules.GUI, 10_000)) {
+            assertEquals(PlantRules.pack(1, 0), garden.getState(4999));
+            assertEquals(0, garden.getState(5000));
+        }
+        assertThrows(IOException.class, () -> OffHeapGarden.openOrCreate(path, PlantRules.GUI, 20_000));
+    }
+
+    @Test
+    void bufferStoreMatchesSegmentStore() {
+        // Surefire adds the foreign memory module, so gardens use segments and buffers are checked here
+        assertTrue(OffHeapStore.usesSegments());
+        long plants = 3_000_001;
+        Random random = new Random(7);
+        OffHeapStore buffers = BufferStore.allocate(plants);
+        OffHeapStore segment = OffHeapStore.allocate(plants);
+        try {
+            for (long i = 0; i < plants; i += 5) {
+                byte state = (byte) random.nextInt(PlantRules.STATE_COUNT);
+                buffers.set(i, state);
+                segment.set(i, state);
+            }
+            for (int times = 1; times <= 3; times++) {
+                byte[] table = Garden.compose(PlantRules.GUI.transitions, times);
+                buffers.water(times, plants - times, table);
+                segment.water(times, plants - times, table);
+            }
+            buffers.reset(1000, 2_500_000);
+            segment.reset(1000, 2_500_000);
+            for (long i = 0; i < plants; i++) {
+                assertEquals(buffers.get(i), segment.get(i), "plant " + i);
+            }
+            long[] bufferCounts = new long[PlantRules.STATE_COUNT];
+            long[] segmentCounts = new long[PlantRules.STATE_COUNT];
+            buffers.addStateCounts(0, plants, bufferCounts);
+            segment.addStateCounts(0, plants, segmentCounts);
+            assertArrayEquals(bufferCounts, segmentCounts);
+        } finally {
+            segment.release();
+        }
+    }
+
+    @Test
+    void emptyGardensOpen() throws IOException {
+        try (OffHeapGarden garden = OffHeapGarden.allocate(PlantRules.GUI, 0)) {
+            garden.waterAll(1);
+        }
+        try (OffHeapGarden garden = OffHeapGarden.openOrCreate(directory.resolve("empty.pgo"), PlantRules.GUI, 0)) {
+            assertEquals(0, garden.size());
+        }
+    }
+}
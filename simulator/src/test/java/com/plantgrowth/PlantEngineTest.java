@@ -0,0 +1,42 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PlantEngineTest {
+    @Test
+    void waterOrThrowRaisesDeathWithStackTrace() throws OverWateringException {
+        PlantEngine engine = waterToDying();
+        OverWateringException e = assertThrows(OverWateringException.class,
+                () -> engine.waterOrThrow("died", "already dead"));
+        assertEquals("died", e.getMessage());
+        assertEquals(WaterOutcome.DIED, e.getOutcome());
+        assertTrue(e.getStackTrace().length > 0);
+    }
+
+    @Test
+    void stacklessVariantIsOptIn() throws OverWateringException {
+        PlantEngine engine = waterToDying();
+        engine.water();
+        OverWateringException e = assertThrows(StacklessOverWateringException.class,
+                () -> engine.waterOrThrow("died", "already dead", false));
+        assertEquals("already dead", e.getMessage());
+        assertEquals(WaterOutcome.ALREADY_DEAD, e.getOutcome());
+        assertEquals(0, e.getStackTrace().length);
+
+        AtomicPlant plant = new AtomicPlant(PlantRules.GUI);
+        plant.reset();
+        assertEquals(WaterOutcome.ABSORBED, plant.waterOrThrow("died", "already dead", false));
+    }
+
+    private static PlantEngine waterToDying() throws OverWateringException {
+        PlantEngine engine = new PlantEngine(PlantRules.GUI);
+        while (engine.getStage() < PlantRules.DEAD_STAGE - 1) {
+            engine.waterOrThrow("died", "already dead", false);
+        }
+        return engine;
+    }
+}
@@ -0,0 +1,52 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class PlantRulesTest {
+    @Test
+    void growsThroughEachStageAfterItsThreshold() {
+        int state = 0;
+        for (int stage = 0; stage < PlantRules.GROWTH_STAGE_COUNT - 1; stage++) {
+            assertEquals(WaterOutcome.ABSORBED, PlantRules.GUI.outcome(state));
+            state = PlantRules.GUI.next(state);
+            assertEquals(PlantRules.pack(stage, 1), state);
+            assertEquals(WaterOutcome.GREW, PlantRules.GUI.outcome(state));
+            state = PlantRules.GUI.next(state);
+            assertEquals(PlantRules.pack(stage + 1, 0), state);
+        }
+    }
+
+    @Test
+    void safeWindowAppliesAfterFlowering() {
+        int state = PlantRules.pack(PlantRules.GROWTH_STAGE_COUNT - 1, 0);
+        assertEquals(WaterOutcome.DECLINED, PlantRules.GUI.outcome(state));
+        state = PlantRules.GUI.next(state);
+        for (int water = 1; water <= 3; water++) {
+            assertEquals(WaterOutcome.ABSORBED, PlantRules.GUI.outcome(state));
+            state = PlantRules.GUI.next(state);
+            assertEquals(PlantRules.pack(PlantRules.GROWTH_STAGE_COUNT, water), state);
+        }
+        assertEquals(WaterOutcome.DECLINED, PlantRules.GUI.outcome(state));
+        state = PlantRules.GUI.next(state);
+        assertEquals(WaterOutcome.DIED, PlantRules.GUI.outcome(state));
+        assertEquals(PlantRules.DEAD_STAGE, PlantRules.stageOf(PlantRules.GUI.next(state)));
+    }
+
+    @Test
+    void waterOfTheDeadSaturates() {
+        int state = PlantRules.pack(PlantRules.DEAD_STAGE, PlantRules.MAX_WATER);
+        assertEquals(WaterOutcome.ALREADY_DEAD, PlantRules.GUI.outcome(state));
+        assertEquals(state, PlantRules.GUI.next(state));
+    }
+
+    @Test
+    void rejectsWaterBeyondTheStateLayout() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PlantRules.compile(new int[] {16, 2, 2, Integer.MAX_VALUE}, 3, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> PlantRules.compile(new int[] {2, 2, 2, Integer.MAX_VALUE}, PlantRules.MAX_WATER, 1));
+    }
+}
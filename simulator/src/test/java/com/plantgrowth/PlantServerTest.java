@@ -0,0 +1,80 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PlantServerTest {
+    @Test
+    void repliesToEachCommand() throws IOException {
+        PlantRules rules = PlantRules.GUI;
+        int watered = rules.next(0);
+        try (PlantServer server = new PlantServer(0);
+             Socket client = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            client.setSoTimeout(5000);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(client.getInputStream(), StandardCharsets.US_ASCII));
+            Writer out = new OutputStreamWriter(client.getOutputStream(), StandardCharsets.US_ASCII);
+
+            assertEquals(WaterOutcome.name(rules.outcome(0)) + " " + PlantRules.stageOf(watered) + " "
+                    + PlantRules.waterOf(watered), request(in, out, "WATER rose"));
+            assertEquals("OK " + PlantRules.stageOf(watered) + " " + PlantRules.waterOf(watered),
+                    request(in, out, "STATUS rose"));
+            assertEquals("OK 0 0", request(in, out, "STATUS tulip"));
+            assertEquals("OK 0 0", request(in, out, "RESET rose"));
+            assertTrue(request(in, out, "PRUNE rose").startsWith("ERROR"));
+            assertTrue(request(in, out, "WATER").startsWith("ERROR"));
+            assertNull(request(in, out, "QUIT"));
+            assertEquals(2, server.getPlantCount());
+            assertEquals(7, server.getRequests());
+        }
+    }
+
+    @Test
+    void closeEndsEverySession() throws IOException {
+        PlantServer server = new PlantServer(0);
+        List<Socket> clients = new ArrayList<>();
+        try {
+            for (int i = 0; i < 20; i++) {
+                clients.add(new Socket(InetAddress.getLoopbackAddress(), server.getPort()));
+            }
+            server.close();
+            for (Socket client : clients) {
+                client.setSoTimeout(5000);
+                assertEquals(-1, readOrEnd(client));
+            }
+        } finally {
+            for (Socket client : clients) {
+                client.close();
+            }
+        }
+    }
+
+    private static String request(BufferedReader in, Writer out, String command) throws IOException {
+        out.write(command + "\n");
+        out.flush();
+        return in.readLine();
+    }
+
+    private static int readOrEnd(Socket client) throws IOException {
+        try {
+            return client.getInputStream().read();
+        } catch (SocketException e) {
+            // Reset by the server, which also ends the session
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PlantSimulationTest {
+    @Test
+    void everyCommandIsTakenInOrderAfterOneNotification() {
+        AtomicInteger notified = new AtomicInteger();
+        PlantSimulation simulation = new PlantSimulation(new LiveRules(PlantRules.GUI), null, null,
+                "died", "already dead", notified::incrementAndGet);
+        simulation.water();
+        simulation.water();
+        simulation.water();
+        simulation.reset();
+        simulation.close();
+
+        List<PlantSimulation.Snapshot> taken = new ArrayList<>();
+        assertTrue(simulation.takePublished(taken));
+        assertEquals(1, notified.get());
+        assertEquals(List.of(WaterOutcome.ABSORBED, WaterOutcome.GREW, WaterOutcome.ABSORBED,
+                PlantSimulation.NO_OUTCOME), taken.stream().map(snapshot -> snapshot.outcome).toList());
+        assertEquals(PlantRules.pack(1, 0), taken.get(1).state);
+        assertEquals(4, taken.get(3).sequence);
+        assertEquals(simulation.latest(), taken.get(3));
+        assertFalse(simulation.takePublished(taken));
+    }
+}
@@ -0,0 +1,35 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class PolicyExplorerTest {
+    @Test
+    void answersMatchTheRules() {
+        PolicyExplorer explorer = new PolicyExplorer(PlantRules.GUI);
+        assertEquals(6, explorer.minWateringsToBloom());
+        assertEquals(11, explorer.maxSafeWaterings());
+        assertEquals(PolicyExplorer.UNREACHABLE, explorer.wateringsToStage(PlantRules.pack(2, 0), 1));
+        // Twelve states on the way to death, then the dead water saturates after sixteen more
+        assertEquals(28, explorer.reachableStates(0).length);
+    }
+
+    @Test
+    void exactDistributionMatchesSampledBatch() {
+        int plants = 400_000;
+        PolicyExplorer.Distribution exact =
+                new PolicyExplorer(PlantRules.GUI).explore(PolicyExplorer.uniformPolicy(2), 8, 0);
+        BatchResult sampled =
+                BatchSimulator.runParallel(new Garden(PlantRules.GUI, plants), WateringSchedule.random(7L, 2), 8);
+
+        double[] stages = exact.getStageProbabilities();
+        double total = 0;
+        for (int stage = 0; stage < stages.length; stage++) {
+            total += stages[stage];
+            assertEquals(stages[stage], (double) sampled.getStageCount(stage) / plants, 0.005, "stage " + stage);
+        }
+        assertEquals(1.0, total, 1e-9);
+        assertEquals(exact.getDeathProbability(), (double) sampled.getDeaths() / plants, 0.005);
+    }
+}
@@ -0,0 +1,67 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RulesFileTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void rulesFileCompilesToTheSameTableAsTheRules() throws IOException {
+        Path path = write("rules.properties",
+                "# GUI rules\ngrowth.thresholds = 2, 2, 2\nflowering.safe = 3\ndecline.threshold = 1\n");
+        PlantRules rules = RulesFile.load(path);
+        for (int state = 0; state < PlantRules.STATE_COUNT; state++) {
+            assertEquals(PlantRules.GUI.next(state), rules.next(state));
+            assertEquals(PlantRules.GUI.outcome(state), rules.outcome(state));
+        }
+        assertArrayEquals(PlantRules.GUI.getGrowthWaterThresholds(), rules.getGrowthWaterThresholds());
+    }
+
+    @Test
+    void badRulesFilesAreRejected() throws IOException {
+        String[] bad = {
+            "flowering.safe = 3\ndecline.threshold = 1\n",
+            "growth.thresholds = 2, 2\nflowering.safe = 3\ndecline.threshold = 1\n",
+            "growth.thresholds = 2, 2, 2, 2\nflowering.safe = 3\ndecline.threshold = 1\n",
+            "growth.thresholds = 2, -1, 2\nflowering.safe = 3\ndecline.threshold = 1\n",
+            "growth.thresholds = 2, 2, 2\nflowering.safe = three\ndecline.threshold = 1\n",
+            "growth.thresholds = 2, 2, 2\nflowering.safe = 3\n",
+        };
+        for (int i = 0; i < bad.length; i++) {
+            Path path = write("bad" + i + ".properties", bad[i]);
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> RulesFile.load(path),
+                    bad[i]);
+            assertTrue(e.getMessage().startsWith(path.toString()), e.getMessage());
+            assertThrows(IllegalArgumentException.class, () -> LiveRules.watch(path));
+        }
+        assertThrows(IOException.class, () -> RulesFile.load(directory.resolve("missing.properties")));
+    }
+
+    @Test
+    void liveRulesPickUpAnEditedFile() throws IOException, InterruptedException {
+        Path path = write("live.properties", "growth.thresholds = 2, 2, 2\nflowering.safe = 3\ndecline.threshold = 1\n");
+        LiveRules live = LiveRules.watch(path);
+        assertEquals(3, live.get().getSafeWaterAtFlowering());
+
+        Files.writeString(path, "growth.thresholds = 2, 2, 2\nflowering.safe = 5\ndecline.threshold = 1\n");
+        long deadline = System.nanoTime() + 20_000_000_000L;
+        while (live.get().getSafeWaterAtFlowering() != 5 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(5, live.get().getSafeWaterAtFlowering());
+    }
+
+    private Path write(String name, String contents) throws IOException {
+        return Files.writeString(directory.resolve(name), contents);
+    }
+}
@@ -0,0 +1,57 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+    @Test
+    void timersFireOnTheirDeadlineAtEveryLevel() {
+        // Deadlines in level 0, at level boundaries, in every higher level and in the overflow list
+        long[] deadlines = {1, 63, 64, 65, 4_095, 4_096, 4_097, 262_143, 262_145, (1L << 24) - 1, 1L << 24,
+                (1L << 24) + 70, (1L << 26) + 3};
+        TimingWheel wheel = new TimingWheel(deadlines.length);
+        for (int id = deadlines.length - 1; id >= 0; id--) {
+            wheel.schedule(id, deadlines[id]);
+        }
+        assertEquals(deadlines.length, wheel.size());
+
+        List<Integer> order = new ArrayList<>();
+        long fired = wheel.advance(deadlines[deadlines.length - 1], id -> {
+            assertEquals(deadlines[id], wheel.now(), "timer " + id);
+            order.add(id);
+        });
+        assertEquals(deadlines.length, fired);
+        for (int id = 0; id < deadlines.length; id++) {
+            assertEquals(id, order.get(id));
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void rescheduledAndCancelledTimersFireOnlyAsLastSet() {
+        TimingWheel wheel = new TimingWheel(3);
+        wheel.schedule(0, 5_000);
+        wheel.schedule(1, 10);
+        wheel.schedule(2, 100);
+        wheel.schedule(0, 70);
+        wheel.cancel(1);
+        wheel.advance(50, id -> {
+            throw new AssertionError("timer " + id + " fired early");
+        });
+
+        List<Long> fired = new ArrayList<>();
+        // A timer may schedule itself again from its own expiry
+        wheel.advance(10_000, id -> {
+            fired.add(wheel.now());
+            if (id == 0 && wheel.now() == 70) {
+                wheel.schedule(0, wheel.now() + 4_000);
+            }
+        });
+        assertEquals(List.of(70L, 100L, 4_070L), fired);
+        assertFalse(wheel.isScheduled(1));
+    }
+}
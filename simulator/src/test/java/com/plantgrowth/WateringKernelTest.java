@@ -0,0 +1,65 @@
+package com.plantgrowth;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class WateringKernelTest {
+    /**
+     * Every vector size, whether or not the CPU has it, so the comparison runs on any machine.
+     */
+    @Test
+    void everyStateInEveryLaneMatchesTheTable() {
+        Random random = new Random(42);
+        for (int bits : new int[] {64, 128, 256, 512}) {
+            int lanes = bits / 8;
+            // Each state at every position of a vector, with the other lanes random
+            byte[] states = new byte[PlantRules.STATE_COUNT * lanes];
+            for (int i = 0; i < states.length; i++) {
+                states[i] = (byte) (i % lanes == i / lanes % lanes
+                        ? i / lanes : random.nextInt(PlantRules.STATE_COUNT));
+            }
+            for (int ruleSet = 0; ruleSet < 50; ruleSet++) {
+                PlantRules rules = randomRules(random);
+                byte[] watered = states.clone();
+                WateringKernel.forTable(rules.transitions, bits).water(watered, 0, watered.length);
+                for (int i = 0; i < states.length; i++) {
+                    assertEquals(rules.next(states[i]), watered[i], bits + "-bit vectors, state " + states[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void gardenSweepsMatchTheTableIncludingTail() {
+        Random random = new Random(3);
+        Garden garden = new Garden(PlantRules.GUI, 1003);
+        byte[] expected = new byte[garden.size()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) random.nextInt(PlantRules.STATE_COUNT);
+            garden.setState(i, expected[i]);
+        }
+        for (int sweep = 0; sweep < 20; sweep++) {
+            int times = sweep % 3 + 1;
+            garden.water(3, garden.size(), times);
+            for (int i = 3; i < expected.length; i++) {
+                for (int t = 0; t < times; t++) {
+                    expected[i] = (byte) PlantRules.GUI.next(expected[i]);
+                }
+            }
+        }
+        assertArrayEquals(expected, garden.states());
+    }
+
+    private static PlantRules randomRules(Random random) {
+        int[] thresholds = new int[PlantRules.GROWTH_STAGE_COUNT];
+        for (int stage = 0; stage < PlantRules.GROWTH_STAGE_COUNT - 1; stage++) {
+            thresholds[stage] = random.nextInt(PlantRules.MAX_WATER + 1);
+        }
+        thresholds[PlantRules.GROWTH_STAGE_COUNT - 1] = Integer.MAX_VALUE;
+        return PlantRules.compile(thresholds, random.nextInt(PlantRules.MAX_WATER),
+                random.nextInt(PlantRules.MAX_WATER + 1));
+    }
+}